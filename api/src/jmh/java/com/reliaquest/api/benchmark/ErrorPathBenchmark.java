@@ -0,0 +1,100 @@
+package com.reliaquest.api.benchmark;
+
+import static com.reliaquest.api.util.Constants.INVALID_UUID_FORMAT;
+import static com.reliaquest.api.util.Constants.OBJECT_NOT_FOUND;
+
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.errorhandlers.APIError;
+import com.reliaquest.api.errorhandlers.APIException;
+import com.reliaquest.api.errorhandlers.ErrorHandlerController;
+import com.reliaquest.api.errorhandlers.ErrorMessageResolver;
+import com.reliaquest.api.util.UUIDParser;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/*
+ * Throughput of the 404 (unknown id) and 400 (malformed id) error paths: the previous path, with a stack trace per
+ * exception and a MessageSource lookup per response, against stackless APIExceptions and cached messages. Logging is
+ * left out of both paths; the previous one also logged every stack trace at ERROR. Run with
+ * ./gradlew :api:jmh -PjmhIncludes=ErrorPathBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ErrorPathBenchmark {
+
+    private final String unknownId = UUID.randomUUID().toString();
+    private final String malformedId = "not-a-uuid";
+    private ResourceBundleMessageSource messageSource;
+    private ErrorHandlerController errorHandlerController;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        AppProperties appProperties = new AppProperties();
+        appProperties.getErrorLog().setMaxPerInterval(0);
+        errorHandlerController =
+                new ErrorHandlerController(new ErrorMessageResolver(messageSource), appProperties);
+    }
+
+    @Benchmark
+    public APIError notFoundPrevious() {
+        return previousHandler(new StackTracedException(OBJECT_NOT_FOUND, new Object[] {unknownId}));
+    }
+
+    @Benchmark
+    public ResponseEntity<APIError> notFound() {
+        return errorHandlerController.handleAPIException(
+                new APIException(OBJECT_NOT_FOUND, new Object[] {unknownId}, HttpStatus.NOT_FOUND));
+    }
+
+    @Benchmark
+    public APIError invalidIdPrevious() {
+        try {
+            UUID.fromString(malformedId);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return previousHandler(new StackTracedException(INVALID_UUID_FORMAT, new Object[] {malformedId}));
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<APIError> invalidId() {
+        if (UUIDParser.parse(malformedId) != null) {
+            return null;
+        }
+        return errorHandlerController.handleAPIException(
+                new APIException(INVALID_UUID_FORMAT, new Object[] {malformedId}, HttpStatus.BAD_REQUEST));
+    }
+
+    private APIError previousHandler(StackTracedException ex) {
+        APIError apiError = new APIError();
+        apiError.setMessage(messageSource.getMessage(ex.msgId, ex.params, Locale.getDefault()));
+        apiError.setId(ex.msgId);
+        return apiError;
+    }
+
+    private static class StackTracedException extends RuntimeException {
+        private final String msgId;
+        private final Object[] params;
+
+        StackTracedException(String msgId, Object[] params) {
+            this.msgId = msgId;
+            this.params = params;
+        }
+    }
+}
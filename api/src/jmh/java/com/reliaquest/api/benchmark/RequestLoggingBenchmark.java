@@ -0,0 +1,154 @@
+package com.reliaquest.api.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeRequest;
+import com.reliaquest.api.index.SalaryRankIndex;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.StaleRosterFallback;
+import com.reliaquest.api.util.SuccessLogSampler;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+/*
+ * Throughput of GET /api/v2/employee/{id} in the controller, with the upstream stubbed out, under the previous logging
+ * setup (synchronous appender, debug level, a success line per request) and the current one (asynchronous appender,
+ * info level, sampled success lines). Events are formatted into a discarding stream so that only logging overhead is
+ * measured. Run with ./gradlew :api:jmh -PjmhIncludes=RequestLoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class RequestLoggingBenchmark {
+
+    @Param({"previous", "async", "async-sampled"})
+    private String logging;
+
+    private final String employeeId = UUID.randomUUID().toString();
+    private Logger logger;
+    private Appender<ILoggingEvent> appender;
+    private EmployeeController employeeController;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{HH:mm:ss.SSS} [%t] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+        appender = sink;
+        if (!logging.equals("previous")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(0);
+            async.setNeverBlock(true);
+            async.addAppender(sink);
+            async.start();
+            appender = async;
+        }
+        logger = context.getLogger("com.reliaquest.api");
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+        logger.setLevel(logging.equals("previous") ? Level.DEBUG : Level.INFO);
+        logger.addAppender(appender);
+
+        AppProperties.RequestLog requestLog = new AppProperties.RequestLog();
+        requestLog.setMaxPerInterval(logging.equals("async-sampled") ? 1 : -1);
+        StaleRosterFallback staleRosterFallback = new StaleRosterFallback(
+                new EmployeeRosterCache(List.of()), CircuitBreaker.ofDefaults("bench"), new SimpleMeterRegistry());
+        employeeController = new EmployeeController(
+                new StubEmployeeService(),
+                staleRosterFallback,
+                new SalaryRankIndex(),
+                new SuccessLogSampler(requestLog));
+    }
+
+    @TearDown
+    public void tearDown() {
+        logger.detachAndStopAllAppenders();
+    }
+
+    @Benchmark
+    public ResponseEntity<EmployeeDTO> getEmployeeById() {
+        return employeeController.getEmployeeById(employeeId);
+    }
+
+    private static class StubEmployeeService implements EmployeeService<EmployeeDTO, EmployeeRequest> {
+
+        private final EmployeeDTO employee =
+                new EmployeeDTO(UUID.randomUUID(), "Jane Doe", 90_000, 29, "Analyst", "jane@company.com");
+
+        @Override
+        public List<EmployeeDTO> getAllEmployees() {
+            return List.of(employee);
+        }
+
+        @Override
+        public List<EmployeeDTO> getEmployeesByNameSearch(String searchString) {
+            return List.of(employee);
+        }
+
+        @Override
+        public EmployeeDTO getEmployeeById(String id) {
+            return employee;
+        }
+
+        @Override
+        public List<EmployeeDTO> getEmployeesByIds(List<String> ids) {
+            return List.of(employee);
+        }
+
+        @Override
+        public Integer getHighestSalaryOfEmployees() {
+            return employee.getEmployeeSalary();
+        }
+
+        @Override
+        public List<String> getTopTenHighestEarningEmployeeNames() {
+            return List.of(employee.getEmployeeName());
+        }
+
+        @Override
+        public EmployeeDTO createEmployee(EmployeeRequest employeeRequest) {
+            return employee;
+        }
+
+        @Override
+        public String deleteEmployeeById(String id) {
+            return employee.getEmployeeName();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.index.SalaryRankIndex;
+import com.reliaquest.api.service.ParallelRosterAggregator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/*
+ * Sequential streams versus the fork-join aggregator for search and highest salary, and a full sort versus the
+ * salary rank index for the top ten. Run with ./gradlew :api:jmh -PjmhIncludes=RosterAggregationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RosterAggregationBenchmark {
+
+    private static final String[] NAME_PARTS = {"an", "el", "or", "is", "ut", "ar", "en", "ol", "ia", "us"};
+
+    @Param({"10000", "1000000", "10000000"})
+    private int employees;
+
+    private List<EmployeeDTO> roster;
+    private ForkJoinPool pool;
+    private ParallelRosterAggregator sequential;
+    private ParallelRosterAggregator parallel;
+    private SalaryRankIndex salaryRankIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        roster = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            String name = NAME_PARTS[random.nextInt(NAME_PARTS.length)]
+                    + NAME_PARTS[random.nextInt(NAME_PARTS.length)]
+                    + " "
+                    + NAME_PARTS[random.nextInt(NAME_PARTS.length)]
+                    + NAME_PARTS[random.nextInt(NAME_PARTS.length)];
+            roster.add(new EmployeeDTO(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    name,
+                    random.nextInt(30_000, 500_000),
+                    random.nextInt(16, 70),
+                    "Engineer",
+                    null));
+        }
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        sequential = new ParallelRosterAggregator(pool, false, Integer.MAX_VALUE);
+        parallel = new ParallelRosterAggregator(pool, true, 0);
+        salaryRankIndex = new SalaryRankIndex();
+        new EmployeeRosterCache(List.of(salaryRankIndex)).replaceAll(roster);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> searchSequential() {
+        return sequential.filter(roster, employee -> employee.getEmployeeName().contains("ol"));
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> searchParallel() {
+        return parallel.filter(roster, employee -> employee.getEmployeeName().contains("ol"));
+    }
+
+    @Benchmark
+    public OptionalInt highestSalarySequential() {
+        return sequential.max(roster, EmployeeDTO::getEmployeeSalary);
+    }
+
+    @Benchmark
+    public OptionalInt highestSalaryParallel() {
+        return parallel.max(roster, EmployeeDTO::getEmployeeSalary);
+    }
+
+    @Benchmark
+    public List<String> topTenFullSort() {
+        return roster.stream()
+                .sorted(Comparator.comparingInt(EmployeeDTO::getEmployeeSalary).reversed())
+                .limit(10)
+                .map(EmployeeDTO::getEmployeeName)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> topTenRankIndex() {
+        return salaryRankIndex.highest(0, 10).stream()
+                .map(EmployeeDTO::getEmployeeName)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeListApiResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * What gzip costs on each side of a full roster transfer from the mock server: serializing (and compressing) the
+ * list response, and parsing (and decompressing) it, with the payload sizes printed at setup. The bytes saved on the
+ * wire against the CPU spent here is what mock.compression.endpoints trades per endpoint.
+ * Run with ./gradlew :api:jmh -PjmhIncludes=RosterTransferBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RosterTransferBenchmark {
+
+    private static final String[] NAME_PARTS = {"an", "el", "or", "is", "ut", "ar", "en", "ol", "ia", "us"};
+
+    @Param({"1000", "10000", "100000"})
+    private int employees;
+
+    private ObjectMapper objectMapper;
+    private EmployeeListApiResponse response;
+    private byte[] raw;
+    private byte[] gzipped;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Employee> roster = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            String first = namePart(random) + namePart(random);
+            String last = namePart(random) + namePart(random);
+            roster.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    first + " " + last,
+                    random.nextInt(30_000, 500_000),
+                    random.nextInt(16, 70),
+                    "Engineer",
+                    first + "@company.com"));
+        }
+        objectMapper = new ObjectMapper();
+        response = new EmployeeListApiResponse(roster, "Successfully processed request.");
+        raw = objectMapper.writeValueAsBytes(response);
+        gzipped = serializeGzip();
+        System.out.printf(
+                "%n%d employees: %d bytes raw, %d bytes gzip (%.1f%%)%n",
+                employees, raw.length, gzipped.length, 100.0 * gzipped.length / raw.length);
+    }
+
+    private static String namePart(SplittableRandom random) {
+        return NAME_PARTS[random.nextInt(NAME_PARTS.length)];
+    }
+
+    @Benchmark
+    public byte[] serializeRaw() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(raw.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes, 8_192)) {
+            objectMapper.writeValue(gzip, response);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public EmployeeListApiResponse parseRaw() throws IOException {
+        return objectMapper.readValue(raw, EmployeeListApiResponse.class);
+    }
+
+    @Benchmark
+    public EmployeeListApiResponse parseGzip() throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(gzipped), 8_192)) {
+            return objectMapper.readValue(gzip, EmployeeListApiResponse.class);
+        }
+    }
+}
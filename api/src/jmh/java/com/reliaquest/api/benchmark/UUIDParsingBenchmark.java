@@ -0,0 +1,77 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.util.UUIDParser;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * UUID.fromString with a caught IllegalArgumentException versus the exception-free UUIDParser, on valid ids and on
+ * the junk ids scanners send. Run with ./gradlew :api:jmh -PjmhIncludes=UUIDParsingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UUIDParsingBenchmark {
+
+    private static final int INPUTS = 1024;
+    private static final String[] JUNK = {
+        "invalid-uuid", "1", "../../etc/passwd", "123e4567-e89b-12d3-a456-42661417400z", "' OR 1=1 --", "null"
+    };
+
+    private String[] valid;
+    private String[] invalid;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        valid = new String[INPUTS];
+        invalid = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            valid[i] = new UUID(random.nextLong(), random.nextLong()).toString();
+            invalid[i] = JUNK[random.nextInt(JUNK.length)];
+        }
+    }
+
+    @Benchmark
+    public UUID validFromString() {
+        return fromString(valid[next()]);
+    }
+
+    @Benchmark
+    public UUID validParser() {
+        return UUIDParser.parse(valid[next()]);
+    }
+
+    @Benchmark
+    public UUID invalidFromString() {
+        return fromString(invalid[next()]);
+    }
+
+    @Benchmark
+    public UUID invalidParser() {
+        return UUIDParser.parse(invalid[next()]);
+    }
+
+    private int next() {
+        index = (index + 1) & (INPUTS - 1);
+        return index;
+    }
+
+    private static UUID fromString(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeListApiResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * JSON versus Smile for the full roster the api reads from the mock server: parse time of the list response, with
+ * the bytes on the wire (plain and gzip) of each format printed at setup. Serialization is measured too, it is the
+ * mock server's share. Run with ./gradlew :api:jmh -PjmhIncludes=WireFormatBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+
+    private static final String[] NAME_PARTS = {"an", "el", "or", "is", "ut", "ar", "en", "ol", "ia", "us"};
+
+    @Param({"10000", "100000"})
+    private int employees;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper smileMapper;
+    private EmployeeListApiResponse response;
+    private byte[] json;
+    private byte[] smile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Employee> roster = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            String first = namePart(random) + namePart(random);
+            String last = namePart(random) + namePart(random);
+            roster.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    first + " " + last,
+                    random.nextInt(30_000, 500_000),
+                    random.nextInt(16, 70),
+                    "Engineer",
+                    first + "@company.com"));
+        }
+        jsonMapper = new ObjectMapper();
+        smileMapper = new SmileMapper();
+        response = new EmployeeListApiResponse(roster, "Successfully processed request.");
+        json = jsonMapper.writeValueAsBytes(response);
+        smile = smileMapper.writeValueAsBytes(response);
+        System.out.printf(
+                "%n%d employees: JSON %d bytes (%d gzip), Smile %d bytes (%d gzip)%n",
+                employees, json.length, gzipped(json), smile.length, gzipped(smile));
+    }
+
+    private static String namePart(SplittableRandom random) {
+        return NAME_PARTS[random.nextInt(NAME_PARTS.length)];
+    }
+
+    private static int gzipped(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.size();
+    }
+
+    @Benchmark
+    public EmployeeListApiResponse parseJson() throws IOException {
+        return jsonMapper.readValue(json, EmployeeListApiResponse.class);
+    }
+
+    @Benchmark
+    public EmployeeListApiResponse parseSmile() throws IOException {
+        return smileMapper.readValue(smile, EmployeeListApiResponse.class);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeSmile() throws IOException {
+        return smileMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,178 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/*
+ * Last known roster of the upstream service. Full reloads are diffed against the current content so that
+ * listeners (salary, rank and name indexes) are only notified about the employees that actually changed. Entries are
+ * kept ordered by id so that pages can be resumed from an id cursor.
+ */
+@Component
+@Slf4j
+public class EmployeeRosterCache {
+
+    private final List<RosterListener> listeners;
+    private final ConcurrentSkipListMap<UUID, EmployeeDTO> employees = new ConcurrentSkipListMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile int size;
+    private volatile Instant lastRefreshed;
+
+    public EmployeeRosterCache(List<RosterListener> listeners) {
+        this.listeners = List.copyOf(listeners);
+    }
+
+    public void replaceAll(Collection<EmployeeDTO> latest) {
+        replaceAll(latest, Instant.now());
+    }
+
+    /*
+     * Seeds the cache from a persisted snapshot. The snapshot keeps its original refresh time, so it is reported (and
+     * served) as stale until the next upstream refresh.
+     */
+    public void restore(RosterSnapshot snapshot) {
+        replaceAll(snapshot.getEmployees(), snapshot.getRefreshedAt());
+    }
+
+    private synchronized void replaceAll(Collection<EmployeeDTO> latest, Instant refreshedAt) {
+        Map<UUID, EmployeeDTO> incoming = new HashMap<>();
+        for (EmployeeDTO employee : latest) {
+            if (Objects.nonNull(employee.getId())) {
+                incoming.put(employee.getId(), employee);
+            }
+        }
+        int changes = 0;
+        for (Iterator<EmployeeDTO> iterator = employees.values().iterator(); iterator.hasNext(); ) {
+            EmployeeDTO current = iterator.next();
+            if (!incoming.containsKey(current.getId())) {
+                iterator.remove();
+                notifyRemoved(current);
+                changes++;
+            }
+        }
+        for (EmployeeDTO employee : incoming.values()) {
+            EmployeeDTO previous = employees.put(employee.getId(), employee);
+            if (!employee.equals(previous)) {
+                if (previous != null) {
+                    notifyRemoved(previous);
+                }
+                notifyAdded(employee);
+                changes++;
+            }
+        }
+        size = incoming.size();
+        if (changes > 0) {
+            version.incrementAndGet();
+        }
+        lastRefreshed = refreshedAt;
+        log.debug("Roster refreshed with {} employees, {} changed", size, changes);
+    }
+
+    public synchronized void put(EmployeeDTO employee) {
+        if (Objects.isNull(employee) || Objects.isNull(employee.getId())) {
+            return;
+        }
+        EmployeeDTO previous = employees.put(employee.getId(), employee);
+        if (employee.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            notifyRemoved(previous);
+        } else {
+            size++;
+        }
+        notifyAdded(employee);
+        version.incrementAndGet();
+    }
+
+    public synchronized void remove(UUID id) {
+        EmployeeDTO removed = employees.remove(id);
+        if (removed != null) {
+            size--;
+            notifyRemoved(removed);
+            version.incrementAndGet();
+        }
+    }
+
+    public Optional<EmployeeDTO> get(UUID id) {
+        return Optional.ofNullable(employees.get(id));
+    }
+
+    public Collection<EmployeeDTO> getEmployees() {
+        return Collections.unmodifiableCollection(employees.values());
+    }
+
+    /*
+     * Walks employees in id order after the given cursor (exclusive, null for the start), skipping offset matches and
+     * returning at most limit of them.
+     */
+    public List<EmployeeDTO> scan(UUID after, int offset, int limit, Predicate<EmployeeDTO> filter) {
+        NavigableMap<UUID, EmployeeDTO> view = after == null ? employees : employees.tailMap(after, false);
+        List<EmployeeDTO> page = new ArrayList<>(Math.min(limit, 1_024));
+        int skipped = 0;
+        for (EmployeeDTO employee : view.values()) {
+            if (page.size() >= limit) {
+                break;
+            }
+            if (!filter.test(employee)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            page.add(employee);
+        }
+        return page;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public Optional<Instant> getLastRefreshed() {
+        return Optional.ofNullable(lastRefreshed);
+    }
+
+    public boolean isLoaded() {
+        return lastRefreshed != null;
+    }
+
+    public boolean isStale(Duration ttl) {
+        Instant refreshed = lastRefreshed;
+        return refreshed == null || refreshed.plus(ttl).isBefore(Instant.now());
+    }
+
+    private void notifyAdded(EmployeeDTO employee) {
+        for (RosterListener listener : listeners) {
+            listener.onEmployeeAdded(employee);
+        }
+    }
+
+    private void notifyRemoved(EmployeeDTO employee) {
+        for (RosterListener listener : listeners) {
+            listener.onEmployeeRemoved(employee);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+
+public interface RosterListener {
+
+    void onEmployeeAdded(EmployeeDTO employee);
+
+    void onEmployeeRemoved(EmployeeDTO employee);
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import java.time.Instant;
+import java.util.List;
+import lombok.Value;
+
+@Value
+public class RosterSnapshot {
+    List<EmployeeDTO> employees;
+    Instant refreshedAt;
+}
@@ -0,0 +1,155 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/*
+ * Binary roster snapshot: magic, format version, refresh time, employee count and the employee records, followed by a
+ * CRC32 of everything before it. Files are written to a sibling temp file and atomically renamed into place, and
+ * memory-mapped when read back.
+ */
+@Component
+@Slf4j
+public class RosterSnapshotStore {
+
+    static final int MAGIC = 0x52535331;
+    static final short FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int NULL_LENGTH = -1;
+
+    public void write(Path path, Collection<EmployeeDTO> employees, Instant refreshedAt) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_BYTES + employees.size() * 96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeLong(refreshedAt.toEpochMilli());
+            out.writeInt(employees.size());
+            for (EmployeeDTO employee : employees) {
+                out.writeLong(employee.getId().getMostSignificantBits());
+                out.writeLong(employee.getId().getLeastSignificantBits());
+                writeString(out, employee.getEmployeeName());
+                writeInteger(out, employee.getEmployeeSalary());
+                writeInteger(out, employee.getEmployeeAge());
+                writeString(out, employee.getEmployeeTitle());
+                writeString(out, employee.getEmployeeEmail());
+            }
+        }
+        byte[] body = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES).putInt((int) crc.getValue()).flip();
+                channel.write(new ByteBuffer[] {ByteBuffer.wrap(body), trailer});
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.debug("Wrote roster snapshot of {} employees ({} bytes) to {}", employees.size(), body.length, path);
+    }
+
+    public Optional<RosterSnapshot> read(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES + Integer.BYTES || fileSize > Integer.MAX_VALUE) {
+                log.warn("Ignoring roster snapshot {} with unexpected size {}", path, fileSize);
+                return Optional.empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            int bodyLength = (int) fileSize - Integer.BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, bodyLength));
+            if ((int) crc.getValue() != buffer.getInt(bodyLength)) {
+                log.warn("Ignoring roster snapshot {} with a checksum mismatch", path);
+                return Optional.empty();
+            }
+            if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+                log.warn("Ignoring roster snapshot {} with an unknown format", path);
+                return Optional.empty();
+            }
+            Instant refreshedAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+            List<EmployeeDTO> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                UUID id = new UUID(buffer.getLong(), buffer.getLong());
+                employees.add(new EmployeeDTO(
+                        id,
+                        readString(buffer),
+                        readInteger(buffer),
+                        readInteger(buffer),
+                        readString(buffer),
+                        readString(buffer)));
+            }
+            return Optional.of(new RosterSnapshot(employees, refreshedAt));
+        } catch (NoSuchFileException e) {
+            log.info("No roster snapshot found at {}", path);
+            return Optional.empty();
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            log.warn("Unable to read roster snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        out.writeInt(value == null ? 0 : value);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] encoded = new byte[length];
+        buffer.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    private static Integer readInteger(ByteBuffer buffer) {
+        boolean present = buffer.get() != 0;
+        int value = buffer.getInt();
+        return present ? value : null;
+    }
+}
@@ -1,58 +1,117 @@
 package com.reliaquest.api.config;
 
 import static org.dozer.loader.api.FieldsMappingOptions.customConverter;
+import static org.dozer.loader.api.TypeMappingOptions.mapNull;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.AppProperties.MockEmployeeService.WireFormat;
 import com.reliaquest.api.dto.EmployeeDTO;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeCreationService;
+import com.reliaquest.api.service.RosterSnapshotService;
+import com.reliaquest.api.trace.TraceHeaderInterceptor;
+import com.reliaquest.api.trace.TracingJackson2HttpMessageConverter;
+import com.reliaquest.api.util.GzipDecodingInterceptor;
 import com.reliaquest.api.util.UUIDConverter;
-import java.util.List;
+import java.net.http.HttpClient;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.dozer.DozerBeanMapper;
 import org.dozer.loader.api.BeanMappingBuilder;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 @Slf4j
 @EnableRetry
+@EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class AppConfig {
 
     @Bean
     public RestTemplate restTemplate(AppProperties appProperties) {
+        AppProperties.MockEmployeeService mockEmployeeService = appProperties.getMockEmployeeService();
+        RestTemplate restTemplate;
+        if (mockEmployeeService.getProtocol() == HttpClient.Version.HTTP_2) {
+            restTemplate = new RestTemplate(http2RequestFactory(mockEmployeeService));
+            restTemplate.getInterceptors().add(new GzipDecodingInterceptor());
+        } else {
+            restTemplate = new RestTemplate(pooledRequestFactory(appProperties.getConnectionManager()));
+        }
+        /*
+         * Smile is asked for ahead of JSON when configured, and the response is read by its content type, so a server
+         * that only produces JSON still works. Request bodies stay JSON (their Content-Type is set by the client).
+         */
+        restTemplate.getMessageConverters().removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+        if (mockEmployeeService.getWireFormat() == WireFormat.SMILE) {
+            restTemplate.getMessageConverters().add(0, new MappingJackson2SmileHttpMessageConverter());
+        }
+        restTemplate.getInterceptors().add(new TraceHeaderInterceptor());
+        return restTemplate;
+    }
+
+    /* One connection (h2c, upgraded from HTTP/1.1) multiplexes all concurrent calls as streams */
+    private static JdkClientHttpRequestFactory http2RequestFactory(AppProperties.MockEmployeeService service) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(service.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(service.getReadTimeout());
+        return requestFactory;
+    }
+
+    private static HttpComponentsClientHttpRequestFactory pooledRequestFactory(
+            AppProperties.ConnectionManager connectionManager) {
         PoolingHttpClientConnectionManager poolingConnManager = new PoolingHttpClientConnectionManager();
-        poolingConnManager.setDefaultMaxPerRoute(
-                appProperties.getConnectionManager().getMaxPerRoute());
-        poolingConnManager.setMaxTotal(appProperties.getConnectionManager().getMaxRoutes());
-        HttpClient httpClient =
+        poolingConnManager.setDefaultMaxPerRoute(connectionManager.getMaxPerRoute());
+        poolingConnManager.setMaxTotal(connectionManager.getMaxRoutes());
+        CloseableHttpClient httpClient =
                 HttpClients.custom().setConnectionManager(poolingConnManager).build();
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
-        return new RestTemplate(factory);
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TracingJackson2HttpMessageConverter(objectMapper);
     }
 
+    /* Mapped in code rather than from an XML mapping file, which Dozer would parse and validate on the first request */
     @Bean
     public DozerBeanMapper dozerBeanMapper() {
         DozerBeanMapper mapper = new DozerBeanMapper();
-        List<String> mappingFiles = List.of("dozer/dozer-bean-mappings.xml");
-        mapper.setMappingFiles(mappingFiles);
         mapper.addMapping(new BeanMappingBuilder() {
             @Override
             protected void configure() {
-                mapping(Employee.class, EmployeeDTO.class).fields("id", "id", customConverter(UUIDConverter.class));
+                mapping(Employee.class, EmployeeDTO.class, mapNull(false))
+                        .fields("id", "id", customConverter(UUIDConverter.class));
             }
         });
         return mapper;
     }
 
+    /* Beans working on their own from startup on (schedules, journal recovery) stay eager under lazy initialization */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBackgroundBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(RosterSnapshotService.class, EmployeeCreationService.class);
+    }
+
     @Bean("objectMapper")
     public ObjectMapper initObjectMapper() {
         var objectMapper = new ObjectMapper();
@@ -65,4 +124,19 @@ public class AppConfig {
                 objectMapper.getDeserializationConfig().with(DeserializationFeature.READ_ENUMS_USING_TO_STRING));
         return objectMapper;
     }
+
+    @Bean(name = "rosterAggregationPool", destroyMethod = "shutdown")
+    public ForkJoinPool rosterAggregationPool(AppProperties appProperties) {
+        int parallelism = appProperties.getAggregation().getParallelism();
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("roster-aggregation-" + thread.getPoolIndex());
+            return thread;
+        };
+        return new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                threadFactory,
+                null,
+                false);
+    }
 }
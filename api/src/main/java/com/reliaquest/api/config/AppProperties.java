@@ -1,9 +1,13 @@
 package com.reliaquest.api.config;
 
 import jakarta.annotation.PostConstruct;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -36,6 +40,36 @@ public class AppProperties implements Validator, ApplicationContextAware {
 
     MockEmployeeService mockEmployeeService = new MockEmployeeService();
 
+    Roster roster = new Roster();
+
+    Analytics analytics = new Analytics();
+
+    Aggregation aggregation = new Aggregation();
+
+    NameSearch nameSearch = new NameSearch();
+
+    Pagination pagination = new Pagination();
+
+    Snapshot snapshot = new Snapshot();
+
+    Retry retry = new Retry();
+
+    Hedging hedging = new Hedging();
+
+    Batching batching = new Batching();
+
+    AsyncCreate asyncCreate = new AsyncCreate();
+
+    ErrorLog errorLog = new ErrorLog();
+
+    RequestLog requestLog = new RequestLog();
+
+    Tracing tracing = new Tracing();
+
+    Startup startup = new Startup();
+
+    ResponseCache responseCache = new ResponseCache();
+
     @Data
     @NoArgsConstructor
     public static class ConnectionManager {
@@ -46,6 +80,131 @@ public class AppProperties implements Validator, ApplicationContextAware {
     @Data
     public static class MockEmployeeService {
         private String url;
+        private HttpClient.Version protocol = HttpClient.Version.HTTP_1_1;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(10);
+        private WireFormat wireFormat = WireFormat.JSON;
+
+        public enum WireFormat {
+            JSON,
+            SMILE
+        }
+    }
+
+    @Data
+    public static class Roster {
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Analytics {
+        private double relativeAccuracy = 0.01;
+        private int ageBandWidth = 10;
+    }
+
+    @Data
+    public static class Aggregation {
+        private boolean parallelEnabled = true;
+        private int parallelism;
+        private int parallelThreshold = 100_000;
+    }
+
+    @Data
+    public static class NameSearch {
+        private int maxLimit = 100;
+        private int maxEditDistance = 2;
+    }
+
+    @Data
+    public static class Pagination {
+        private int maxLimit = 500;
+    }
+
+    @Data
+    public static class Snapshot {
+        private boolean enabled;
+        private String path = "data/roster.snapshot";
+        private Duration interval = Duration.ofSeconds(60);
+    }
+
+    @Data
+    public static class Retry {
+        private Duration requestDeadline = Duration.ofSeconds(10);
+        private Duration maxWait = Duration.ofSeconds(10);
+        private double jitter = 0.2;
+    }
+
+    @Data
+    public static class Hedging {
+        private boolean enabled;
+        private Duration delay = Duration.ofMillis(100);
+        private Duration minDelay = Duration.ofMillis(10);
+        private double quantile = 0.95;
+        private int minSamples = 100;
+        private double budgetRatio = 0.05;
+        private Duration timeout = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Batching {
+        private boolean enabled;
+        private Duration window = Duration.ofMillis(5);
+        private int maxBatchSize = 100;
+        private int maxIds = 100;
+        private int concurrency = 4;
+        private Source source = Source.UPSTREAM;
+        private Duration timeout = Duration.ofSeconds(10);
+
+        public enum Source {
+            UPSTREAM,
+            ROSTER
+        }
+    }
+
+    @Data
+    public static class AsyncCreate {
+        private boolean enabled;
+        private int capacity = 1_000;
+        private int batchSize = 20;
+        private Duration backoff = Duration.ofSeconds(1);
+        private int retained = 10_000;
+        private String journalPath;
+    }
+
+    @Data
+    public static class ErrorLog {
+        private Duration sampleInterval = Duration.ofSeconds(1);
+        private int maxPerInterval = 5;
+    }
+
+    @Data
+    public static class RequestLog {
+        private Duration sampleInterval = Duration.ofSeconds(1);
+        private int maxPerInterval = 1;
+        private Map<String, Integer> endpoints = new HashMap<>();
+    }
+
+    @Data
+    public static class Tracing {
+        private boolean enabled = true;
+        private int retained = 1_024;
+        private int slowest = 20;
+    }
+
+    @Data
+    public static class Startup {
+        private boolean logProperties = true;
+    }
+
+    @Data
+    public static class ResponseCache {
+        private boolean enabled = true;
+        private Duration maxAge = Duration.ZERO;
+        private int maxEntries = 64;
+        private List<String> endpoints = List.of(
+                "/api/v2/employee",
+                "/api/v2/employee/highestSalary",
+                "/api/v2/employee/topTenHighestEarningEmployeeNames");
     }
 
     @Override
@@ -72,6 +231,9 @@ public class AppProperties implements Validator, ApplicationContextAware {
 
     @PostConstruct
     public void printApplicationProperties() {
+        if (!startup.isLogProperties()) {
+            return;
+        }
         ConfigurableEnvironment env = (ConfigurableEnvironment) applicationContext.getEnvironment();
         log.info(
                 "===================================================================================================================================");
@@ -16,7 +16,8 @@ public class AppPropertiesTrimmer implements EnvironmentPostProcessor {
         MutablePropertySources propertySources = environment.getPropertySources();
         for (var propertySource : propertySources) {
             if (propertySource instanceof MapPropertySource
-                    && propertySource.getName().contains("application")) {
+                    && propertySource.getName().contains("application")
+                    && hasUntrimmedValue(((MapPropertySource) propertySource).getSource())) {
                 Map<String, Object> originalProperties = ((MapPropertySource) propertySource).getSource();
                 Map<String, Object> trimmedProperties = new HashMap<>();
                 for (var entry : originalProperties.entrySet()) {
@@ -30,4 +31,17 @@ public class AppPropertiesTrimmer implements EnvironmentPostProcessor {
             }
         }
     }
+
+    /* Most property files have nothing to trim, their sources (and the origins of their values) are kept as they are */
+    private static boolean hasUntrimmedValue(Map<String, Object> properties) {
+        for (Object value : properties.values()) {
+            if (Objects.nonNull(value)) {
+                String text = value.toString();
+                if (text.trim().length() != text.length()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,54 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.dto.EmployeeBatchRequest;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeDeleteRequest;
+import com.reliaquest.api.dto.EmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeApiResponse;
+import com.reliaquest.api.model.EmployeeDeleteApiResponse;
+import com.reliaquest.api.model.EmployeeListApiResponse;
+import com.reliaquest.api.util.UUIDConverter;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.web.client.HttpClientErrorException;
+
+/*
+ * What a native image of the api reaches only by reflection or by name, beyond what AOT processing finds on its own in
+ * the controllers and configuration properties.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        /* Bodies exchanged with the mock server through the RestTemplate */
+        new BindingReflectionHintsRegistrar()
+                .registerReflectionHints(
+                        hints.reflection(),
+                        Employee.class,
+                        EmployeeApiResponse.class,
+                        EmployeeListApiResponse.class,
+                        EmployeeDeleteApiResponse.class,
+                        EmployeeRequest.class,
+                        EmployeeDeleteRequest.class,
+                        EmployeeBatchRequest.class);
+
+        /* Dozer introspects both sides of its mapping and instantiates custom converters reflectively */
+        for (Class<?> mapped : new Class<?>[] {Employee.class, EmployeeDTO.class}) {
+            hints.reflection()
+                    .registerType(
+                            mapped,
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                            MemberCategory.INVOKE_PUBLIC_METHODS,
+                            MemberCategory.DECLARED_FIELDS);
+        }
+        hints.reflection().registerType(UUIDConverter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        /* Resilience4j loads the retry and record exceptions of application.properties by class name */
+        hints.reflection().registerType(HttpClientErrorException.TooManyRequests.class);
+
+        hints.resources().registerResourceBundle("messages");
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.controller;
+
+import static com.reliaquest.api.util.ApiDescriptions.GET_EMPLOYEES_BY_IDS_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.GET_EMPLOYEES_BY_IDS_SUMMARY;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeRequest;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.StaleRosterFallback;
+import com.reliaquest.api.util.SuccessLogSampler;
+import com.reliaquest.api.util.UUIDParser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Employee Batches", description = "Lookups of several employees at once")
+@RestController
+@RequestMapping("/api/v2/employee/batch")
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeBatchController {
+
+    private final EmployeeService<EmployeeDTO, EmployeeRequest> employeeService;
+    private final StaleRosterFallback staleRosterFallback;
+    private final SuccessLogSampler successLogSampler;
+
+    @Operation(summary = GET_EMPLOYEES_BY_IDS_SUMMARY, description = GET_EMPLOYEES_BY_IDS_DESC)
+    @GetMapping()
+    public ResponseEntity<List<EmployeeDTO>> getEmployeesByIds(
+            @RequestParam @Parameter(description = "Comma separated employee IDs") List<String> ids) {
+        log.debug("Fetching {} employees by ID", ids.size());
+        ResponseEntity<List<EmployeeDTO>> response = staleRosterFallback.serve(
+                "employees-by-ids",
+                () -> employeeService.getEmployeesByIds(ids),
+                roster -> Optional.of(ids.stream()
+                        .distinct()
+                        .map(UUIDParser::parse)
+                        .filter(Objects::nonNull)
+                        .map(roster::get)
+                        .flatMap(Optional::stream)
+                        .collect(Collectors.toList())));
+        if (successLogSampler.shouldLog("employees-by-ids")) {
+            log.info("Retrieved {} of {} requested employees", response.getBody().size(), ids.size());
+        }
+        return response;
+    }
+}
@@ -17,11 +17,18 @@ import static com.reliaquest.api.util.ApiDescriptions.SEARCH_EMPLOYEES_SUMMARY;
 
 import com.reliaquest.api.dto.EmployeeDTO;
 import com.reliaquest.api.dto.EmployeeRequest;
+import com.reliaquest.api.index.SalaryRankIndex;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.StaleRosterFallback;
+import com.reliaquest.api.util.SuccessLogSampler;
+import com.reliaquest.api.util.UUIDParser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -40,14 +47,22 @@ import org.springframework.web.bind.annotation.RestController;
 public class EmployeeController implements IEmployeeController<EmployeeDTO, EmployeeRequest> {
 
     private final EmployeeService<EmployeeDTO, EmployeeRequest> employeeService;
+    private final StaleRosterFallback staleRosterFallback;
+    private final SalaryRankIndex salaryRankIndex;
+    private final SuccessLogSampler successLogSampler;
 
     @Operation(summary = GET_ALL_EMPLOYEES_SUMMARY, description = GET_ALL_EMPLOYEES_DESC)
     @Override
     public ResponseEntity<List<EmployeeDTO>> getAllEmployees() {
         log.debug("Fetching all employees...");
-        List<EmployeeDTO> employees = employeeService.getAllEmployees();
-        log.info("Retrieved {} employees successfully.", employees.size());
-        return ResponseEntity.ok(employees);
+        ResponseEntity<List<EmployeeDTO>> response = staleRosterFallback.serve(
+                "all-employees",
+                employeeService::getAllEmployees,
+                roster -> Optional.of(new ArrayList<>(roster.getEmployees())));
+        if (successLogSampler.shouldLog("all-employees")) {
+            log.info("Retrieved {} employees successfully.", response.getBody().size());
+        }
+        return response;
     }
 
     @Operation(summary = SEARCH_EMPLOYEES_SUMMARY, description = SEARCH_EMPLOYEES_DESC)
@@ -55,9 +70,19 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Empl
     public ResponseEntity<List<EmployeeDTO>> getEmployeesByNameSearch(
             @PathVariable @Parameter(description = "Search string for employee names") String searchString) {
         log.debug("Searching employees by name: '{}'", searchString);
-        List<EmployeeDTO> employees = employeeService.getEmployeesByNameSearch(searchString);
-        log.info("Found {} employees matching search string '{}'", employees.size(), searchString);
-        return ResponseEntity.ok(employees);
+        ResponseEntity<List<EmployeeDTO>> response = staleRosterFallback.serve(
+                "search",
+                () -> employeeService.getEmployeesByNameSearch(searchString),
+                roster -> Optional.of(roster.scan(
+                        null,
+                        0,
+                        Integer.MAX_VALUE,
+                        employee -> employee.getEmployeeName() != null
+                                && employee.getEmployeeName().toLowerCase().contains(searchString.toLowerCase()))));
+        if (successLogSampler.shouldLog("search")) {
+            log.info("Found {} employees matching search string '{}'", response.getBody().size(), searchString);
+        }
+        return response;
     }
 
     @Operation(summary = GET_EMPLOYEE_BY_ID_SUMMARY, description = GET_EMPLOYEE_BY_ID_DESC)
@@ -65,33 +90,50 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Empl
     public ResponseEntity<EmployeeDTO> getEmployeeById(
             @PathVariable @Parameter(description = "Employee ID") String id) {
         log.debug("Fetching employee with ID: {}", id);
-        EmployeeDTO employee = employeeService.getEmployeeById(id);
-        log.info("Retrieved employee with ID: {}", id);
-        return ResponseEntity.ok(employee);
+        ResponseEntity<EmployeeDTO> response = staleRosterFallback.serve(
+                "employee-by-id",
+                () -> employeeService.getEmployeeById(id),
+                roster -> Optional.ofNullable(UUIDParser.parse(id)).flatMap(roster::get));
+        if (successLogSampler.shouldLog("employee-by-id")) {
+            log.info("Retrieved employee with ID: {}", id);
+        }
+        return response;
     }
 
     @Operation(summary = GET_HIGHEST_SALARY_SUMMARY, description = GET_HIGHEST_SALARY_DESC)
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.debug("Fetching highest employee salary...");
-        int highestSalary = employeeService.getHighestSalaryOfEmployees();
-        log.info("Highest salary retrieved: {}", highestSalary);
-        return ResponseEntity.ok(highestSalary);
+        ResponseEntity<Integer> response = staleRosterFallback.serve(
+                "highest-salary",
+                employeeService::getHighestSalaryOfEmployees,
+                roster -> Optional.of(salaryRankIndex.highestSalary().orElse(0)));
+        if (successLogSampler.shouldLog("highest-salary")) {
+            log.info("Highest salary retrieved: {}", response.getBody());
+        }
+        return response;
     }
 
     @Operation(summary = GET_TOP_EARNERS_SUMMARY, description = GET_TOP_EARNERS_DESC)
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.debug("Fetching top 10 highest earning employees...");
-        List<String> topEarners = employeeService.getTopTenHighestEarningEmployeeNames();
-        log.info("Retrieved top 10 highest earning employees.");
-        return ResponseEntity.ok(topEarners);
+        ResponseEntity<List<String>> response = staleRosterFallback.serve(
+                "top-earners",
+                employeeService::getTopTenHighestEarningEmployeeNames,
+                roster -> Optional.of(salaryRankIndex.highest(0, 10).stream()
+                        .map(EmployeeDTO::getEmployeeName)
+                        .collect(Collectors.toList())));
+        if (successLogSampler.shouldLog("top-earners")) {
+            log.info("Retrieved top 10 highest earning employees.");
+        }
+        return response;
     }
 
     @Operation(summary = CREATE_EMPLOYEE_SUMMARY, description = CREATE_EMPLOYEE_DESC)
     @Override
     public ResponseEntity<EmployeeDTO> createEmployee(@RequestBody @Validated EmployeeRequest employeeInput) {
-        log.debug("Creating a new employee: {}", employeeInput);
+        log.debug("Creating a new employee named '{}'", employeeInput.getName());
         EmployeeDTO employee = employeeService.createEmployee(employeeInput);
         log.info("Employee created successfully with ID: {}", employee.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(employee);
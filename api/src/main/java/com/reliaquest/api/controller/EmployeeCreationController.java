@@ -0,0 +1,58 @@
+package com.reliaquest.api.controller;
+
+import static com.reliaquest.api.util.ApiDescriptions.GET_EMPLOYEE_CREATION_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.GET_EMPLOYEE_CREATION_SUMMARY;
+import static com.reliaquest.api.util.ApiDescriptions.SUBMIT_EMPLOYEE_CREATION_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.SUBMIT_EMPLOYEE_CREATION_SUMMARY;
+
+import com.reliaquest.api.dto.EmployeeCreationDTO;
+import com.reliaquest.api.dto.EmployeeRequest;
+import com.reliaquest.api.service.EmployeeCreationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Asynchronous Employee Creation", description = "Queued creation of employees")
+@RestController
+@RequestMapping("/api/v2/employee/async")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.async-create", name = "enabled", havingValue = "true")
+public class EmployeeCreationController {
+
+    private final EmployeeCreationService employeeCreationService;
+
+    @Operation(summary = SUBMIT_EMPLOYEE_CREATION_SUMMARY, description = SUBMIT_EMPLOYEE_CREATION_DESC)
+    @PostMapping()
+    public ResponseEntity<EmployeeCreationDTO> submitEmployeeCreation(
+            @RequestBody @Validated EmployeeRequest employeeInput,
+            @RequestParam(defaultValue = "queued") @Parameter(description = "queued or durable") String ack) {
+        log.debug("Queueing creation of employee: {}", employeeInput.getName());
+        EmployeeCreationDTO creation = employeeCreationService.submit(employeeInput, ack);
+        log.info("Employee creation queued with tracking ID: {}", creation.getTrackingId());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v2/employee/async/" + creation.getTrackingId()))
+                .body(creation);
+    }
+
+    @Operation(summary = GET_EMPLOYEE_CREATION_SUMMARY, description = GET_EMPLOYEE_CREATION_DESC)
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<EmployeeCreationDTO> getEmployeeCreation(
+            @PathVariable @Parameter(description = "Tracking ID") String trackingId) {
+        log.debug("Fetching employee creation with tracking ID: {}", trackingId);
+        return ResponseEntity.ok(employeeCreationService.getCreation(trackingId));
+    }
+}
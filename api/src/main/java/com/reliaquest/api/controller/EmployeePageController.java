@@ -0,0 +1,54 @@
+package com.reliaquest.api.controller;
+
+import static com.reliaquest.api.util.ApiDescriptions.GET_EMPLOYEE_PAGE_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.GET_EMPLOYEE_PAGE_SUMMARY;
+import static com.reliaquest.api.util.ApiDescriptions.SEARCH_EMPLOYEE_PAGE_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.SEARCH_EMPLOYEE_PAGE_SUMMARY;
+
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.service.EmployeePageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Employee Pages", description = "Bounded, paginated and projected employee listings")
+@RestController
+@RequestMapping("/api/v2/employee/page")
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeePageController {
+
+    private final EmployeePageService employeePageService;
+
+    @Operation(summary = GET_EMPLOYEE_PAGE_SUMMARY, description = GET_EMPLOYEE_PAGE_DESC)
+    @GetMapping()
+    public ResponseEntity<EmployeePageDTO> getEmployeePage(
+            @RequestParam(required = false) @Parameter(description = "Resume after this employee ID") String cursor,
+            @RequestParam(required = false) @Parameter(description = "Number of employees to skip") Integer offset,
+            @RequestParam(defaultValue = "50") @Parameter(description = "Maximum number of employees") int limit,
+            @RequestParam(required = false) @Parameter(description = "Comma separated fields to return")
+                    String fields) {
+        log.debug("Fetching employee page cursor={} offset={} limit={}", cursor, offset, limit);
+        return ResponseEntity.ok(employeePageService.getEmployeePage(cursor, offset, limit, fields));
+    }
+
+    @Operation(summary = SEARCH_EMPLOYEE_PAGE_SUMMARY, description = SEARCH_EMPLOYEE_PAGE_DESC)
+    @GetMapping("/search")
+    public ResponseEntity<EmployeePageDTO> searchEmployeePage(
+            @RequestParam @Parameter(description = "Search string for employee names") String query,
+            @RequestParam(required = false) @Parameter(description = "Resume after this employee ID") String cursor,
+            @RequestParam(required = false) @Parameter(description = "Number of matches to skip") Integer offset,
+            @RequestParam(defaultValue = "50") @Parameter(description = "Maximum number of employees") int limit,
+            @RequestParam(required = false) @Parameter(description = "Comma separated fields to return")
+                    String fields) {
+        log.debug("Searching employee page for '{}' cursor={} offset={} limit={}", query, cursor, offset, limit);
+        return ResponseEntity.ok(employeePageService.searchEmployeePage(query, cursor, offset, limit, fields));
+    }
+}
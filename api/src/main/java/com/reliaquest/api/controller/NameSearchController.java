@@ -0,0 +1,50 @@
+package com.reliaquest.api.controller;
+
+import static com.reliaquest.api.util.ApiDescriptions.AUTOCOMPLETE_NAMES_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.AUTOCOMPLETE_NAMES_SUMMARY;
+import static com.reliaquest.api.util.ApiDescriptions.FUZZY_SEARCH_NAMES_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.FUZZY_SEARCH_NAMES_SUMMARY;
+
+import com.reliaquest.api.dto.NameMatchDTO;
+import com.reliaquest.api.service.NameSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Employee Name Search", description = "Prefix and typo-tolerant employee name lookups")
+@RestController
+@RequestMapping("/api/v2/employee/names")
+@RequiredArgsConstructor
+@Slf4j
+public class NameSearchController {
+
+    private final NameSearchService nameSearchService;
+
+    @Operation(summary = AUTOCOMPLETE_NAMES_SUMMARY, description = AUTOCOMPLETE_NAMES_DESC)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<NameMatchDTO>> autocomplete(
+            @RequestParam @Parameter(description = "Name prefix") String prefix,
+            @RequestParam(defaultValue = "10") @Parameter(description = "Maximum number of results") int limit) {
+        log.debug("Autocompleting employee names for prefix '{}'", prefix);
+        return ResponseEntity.ok(nameSearchService.autocomplete(prefix, limit));
+    }
+
+    @Operation(summary = FUZZY_SEARCH_NAMES_SUMMARY, description = FUZZY_SEARCH_NAMES_DESC)
+    @GetMapping("/search")
+    public ResponseEntity<List<NameMatchDTO>> search(
+            @RequestParam @Parameter(description = "Name or name fragment, typos allowed") String query,
+            @RequestParam(required = false) @Parameter(description = "Maximum edit distance for fuzzy matches")
+                    Integer maxDistance,
+            @RequestParam(defaultValue = "10") @Parameter(description = "Maximum number of results") int limit) {
+        log.debug("Searching employee names for '{}'", query);
+        return ResponseEntity.ok(nameSearchService.search(query, maxDistance, limit));
+    }
+}
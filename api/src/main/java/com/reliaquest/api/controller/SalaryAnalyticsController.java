@@ -0,0 +1,102 @@
+package com.reliaquest.api.controller;
+
+import static com.reliaquest.api.util.ApiDescriptions.GET_HIGHEST_EARNERS_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.GET_HIGHEST_EARNERS_SUMMARY;
+import static com.reliaquest.api.util.ApiDescriptions.GET_LOWEST_EARNERS_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.GET_LOWEST_EARNERS_SUMMARY;
+import static com.reliaquest.api.util.ApiDescriptions.GET_SALARY_BY_AGE_BAND_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.GET_SALARY_BY_AGE_BAND_SUMMARY;
+import static com.reliaquest.api.util.ApiDescriptions.GET_SALARY_BY_TITLE_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.GET_SALARY_BY_TITLE_SUMMARY;
+import static com.reliaquest.api.util.ApiDescriptions.GET_SALARY_HISTOGRAM_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.GET_SALARY_HISTOGRAM_SUMMARY;
+import static com.reliaquest.api.util.ApiDescriptions.GET_SALARY_PERCENTILES_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.GET_SALARY_PERCENTILES_SUMMARY;
+import static com.reliaquest.api.util.ApiDescriptions.GET_SALARY_RANK_DESC;
+import static com.reliaquest.api.util.ApiDescriptions.GET_SALARY_RANK_SUMMARY;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.SalaryGroupStatsDTO;
+import com.reliaquest.api.dto.SalaryHistogramDTO;
+import com.reliaquest.api.dto.SalaryPercentilesDTO;
+import com.reliaquest.api.dto.SalaryRankDTO;
+import com.reliaquest.api.service.SalaryAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Salary Analytics", description = "Salary statistics computed over the cached employee roster")
+@RestController
+@RequestMapping("/api/v2/employee/analytics/salary")
+@RequiredArgsConstructor
+@Slf4j
+public class SalaryAnalyticsController {
+
+    private final SalaryAnalyticsService salaryAnalyticsService;
+
+    @Operation(summary = GET_SALARY_PERCENTILES_SUMMARY, description = GET_SALARY_PERCENTILES_DESC)
+    @GetMapping("/percentiles")
+    public ResponseEntity<SalaryPercentilesDTO> getSalaryPercentiles(
+            @RequestParam(name = "p", defaultValue = "50,90,99")
+                    @Parameter(description = "Percentiles to compute, between 0 and 100")
+                    List<Double> percentiles) {
+        log.debug("Fetching salary percentiles {}", percentiles);
+        return ResponseEntity.ok(salaryAnalyticsService.getSalaryPercentiles(percentiles));
+    }
+
+    @Operation(summary = GET_SALARY_HISTOGRAM_SUMMARY, description = GET_SALARY_HISTOGRAM_DESC)
+    @GetMapping("/histogram")
+    public ResponseEntity<SalaryHistogramDTO> getSalaryHistogram(
+            @RequestParam(defaultValue = "50000") @Parameter(description = "Width of each salary bucket")
+                    int bucketWidth) {
+        log.debug("Fetching salary histogram with bucket width {}", bucketWidth);
+        return ResponseEntity.ok(salaryAnalyticsService.getSalaryHistogram(bucketWidth));
+    }
+
+    @Operation(summary = GET_SALARY_BY_TITLE_SUMMARY, description = GET_SALARY_BY_TITLE_DESC)
+    @GetMapping("/by-title")
+    public ResponseEntity<List<SalaryGroupStatsDTO>> getSalaryStatsByTitle() {
+        log.debug("Fetching salary statistics by title");
+        return ResponseEntity.ok(salaryAnalyticsService.getSalaryStatsByTitle());
+    }
+
+    @Operation(summary = GET_SALARY_BY_AGE_BAND_SUMMARY, description = GET_SALARY_BY_AGE_BAND_DESC)
+    @GetMapping("/by-age-band")
+    public ResponseEntity<List<SalaryGroupStatsDTO>> getSalaryStatsByAgeBand() {
+        log.debug("Fetching salary statistics by age band");
+        return ResponseEntity.ok(salaryAnalyticsService.getSalaryStatsByAgeBand());
+    }
+
+    @Operation(summary = GET_HIGHEST_EARNERS_SUMMARY, description = GET_HIGHEST_EARNERS_DESC)
+    @GetMapping("/top")
+    public ResponseEntity<List<EmployeeDTO>> getHighestEarningEmployees(
+            @RequestParam(defaultValue = "10") @Parameter(description = "Number of employees to return") int k) {
+        log.debug("Fetching top {} highest earning employees", k);
+        return ResponseEntity.ok(salaryAnalyticsService.getHighestEarningEmployees(k));
+    }
+
+    @Operation(summary = GET_LOWEST_EARNERS_SUMMARY, description = GET_LOWEST_EARNERS_DESC)
+    @GetMapping("/bottom")
+    public ResponseEntity<List<EmployeeDTO>> getLowestEarningEmployees(
+            @RequestParam(defaultValue = "10") @Parameter(description = "Number of employees to return") int k) {
+        log.debug("Fetching bottom {} lowest earning employees", k);
+        return ResponseEntity.ok(salaryAnalyticsService.getLowestEarningEmployees(k));
+    }
+
+    @Operation(summary = GET_SALARY_RANK_SUMMARY, description = GET_SALARY_RANK_DESC)
+    @GetMapping("/rank/{id}")
+    public ResponseEntity<SalaryRankDTO> getSalaryRank(
+            @PathVariable @Parameter(description = "Employee ID") String id) {
+        log.debug("Fetching salary rank of employee with ID: {}", id);
+        return ResponseEntity.ok(salaryAnalyticsService.getSalaryRank(id));
+    }
+}
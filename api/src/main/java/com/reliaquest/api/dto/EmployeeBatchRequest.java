@@ -0,0 +1,16 @@
+package com.reliaquest.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeBatchRequest {
+    @NotNull
+    private List<UUID> ids;
+}
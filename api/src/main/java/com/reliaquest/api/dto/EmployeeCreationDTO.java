@@ -0,0 +1,42 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Value;
+import lombok.With;
+
+/* An immutable snapshot of a creation's progress; each change replaces it with an updated copy */
+@Value
+@With
+public class EmployeeCreationDTO {
+
+    @JsonProperty("tracking_id")
+    private UUID trackingId;
+
+    @JsonProperty("status")
+    private Status status;
+
+    @JsonProperty("employee")
+    private EmployeeDTO employee;
+
+    @JsonProperty("error")
+    private String error;
+
+    @JsonProperty("submitted_at")
+    private String submittedAt;
+
+    @JsonProperty("completed_at")
+    private String completedAt;
+
+    public static EmployeeCreationDTO queued(UUID trackingId, Instant submittedAt) {
+        return new EmployeeCreationDTO(trackingId, Status.QUEUED, null, null, submittedAt.toString(), null);
+    }
+
+    public enum Status {
+        QUEUED,
+        WRITING,
+        CREATED,
+        FAILED
+    }
+}
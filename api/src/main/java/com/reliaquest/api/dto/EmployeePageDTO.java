@@ -0,0 +1,29 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePageDTO {
+
+    @JsonProperty("employees")
+    private List<EmployeeDTO> employees;
+
+    @JsonProperty("limit")
+    private Integer limit;
+
+    @JsonProperty("offset")
+    private Integer offset;
+
+    @JsonProperty("next_cursor")
+    private UUID nextCursor;
+
+    @JsonProperty("total")
+    private Integer total;
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NameMatchDTO {
+
+    @JsonProperty("id")
+    private UUID id;
+
+    @JsonProperty("employee_name")
+    private String employeeName;
+
+    @JsonProperty("match_type")
+    private MatchType matchType;
+
+    @JsonProperty("edit_distance")
+    private Integer editDistance;
+
+    public enum MatchType {
+        EXACT,
+        PREFIX,
+        TOKEN_PREFIX,
+        FUZZY
+    }
+}
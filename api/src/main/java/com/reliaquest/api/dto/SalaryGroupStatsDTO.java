@@ -0,0 +1,24 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryGroupStatsDTO {
+
+    @JsonProperty("group")
+    private String group;
+
+    @JsonProperty("employee_count")
+    private Long employeeCount;
+
+    @JsonProperty("average_salary")
+    private Integer averageSalary;
+
+    @JsonProperty("median_salary")
+    private Integer medianSalary;
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryHistogramDTO {
+
+    @JsonProperty("bucket_width")
+    private Integer bucketWidth;
+
+    @JsonProperty("employee_count")
+    private Long employeeCount;
+
+    @JsonProperty("buckets")
+    private List<Bucket> buckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+
+        @JsonProperty("lower_bound")
+        private Integer lowerBound;
+
+        @JsonProperty("upper_bound")
+        private Integer upperBound;
+
+        @JsonProperty("count")
+        private Long count;
+    }
+}
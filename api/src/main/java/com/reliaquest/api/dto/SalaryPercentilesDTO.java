@@ -0,0 +1,19 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryPercentilesDTO {
+
+    @JsonProperty("employee_count")
+    private Long employeeCount;
+
+    @JsonProperty("percentiles")
+    private Map<String, Integer> percentiles;
+}
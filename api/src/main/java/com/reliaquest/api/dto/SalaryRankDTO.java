@@ -0,0 +1,28 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryRankDTO {
+
+    @JsonProperty("id")
+    private UUID id;
+
+    @JsonProperty("employee_name")
+    private String employeeName;
+
+    @JsonProperty("employee_salary")
+    private Integer employeeSalary;
+
+    @JsonProperty("salary_rank")
+    private Integer salaryRank;
+
+    @JsonProperty("employee_count")
+    private Integer employeeCount;
+}
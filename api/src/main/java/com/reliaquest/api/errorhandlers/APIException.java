@@ -4,6 +4,10 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.http.HttpStatusCode;
 
+/*
+ * Client errors (4xx) are expected outcomes such as unknown or malformed ids, so they skip the stack trace; server
+ * errors keep it for diagnosis.
+ */
 @Getter
 @Setter
 public class APIException extends RuntimeException {
@@ -13,7 +17,7 @@ public class APIException extends RuntimeException {
     private HttpStatusCode httpStatusCode;
 
     public APIException(String msgId, Object[] params, HttpStatusCode httpStatusCode) {
-        super();
+        super(msgId, null, false, !httpStatusCode.is4xxClientError());
         this.msgId = msgId;
         this.params = params;
         this.httpStatusCode = httpStatusCode;
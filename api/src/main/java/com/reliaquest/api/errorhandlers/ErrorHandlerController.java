@@ -1,20 +1,22 @@
 package com.reliaquest.api.errorhandlers;
 
 import static com.reliaquest.api.util.Constants.BAD_REQUEST;
+import static com.reliaquest.api.util.Constants.BULKHEAD_FULL;
 import static com.reliaquest.api.util.Constants.CIRCUIT_BREAKER_OPEN;
 import static com.reliaquest.api.util.Constants.HTTP_ERROR;
 import static com.reliaquest.api.util.Constants.INTERNAL_SERVER_ERROR;
 import static com.reliaquest.api.util.Constants.INVALID_REQUEST;
 import static com.reliaquest.api.util.Constants.TOO_MANY_REQUESTS;
 
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.util.LogSampler;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
-import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,18 +29,20 @@ import org.springframework.web.client.HttpClientErrorException;
 
 @RestControllerAdvice
 @Slf4j
-@AllArgsConstructor
 public class ErrorHandlerController {
-    private final MessageSource messageSource;
+    private final ErrorMessageResolver errorMessageResolver;
+    private final LogSampler clientErrorLogSampler;
+
+    public ErrorHandlerController(ErrorMessageResolver errorMessageResolver, AppProperties appProperties) {
+        this.errorMessageResolver = errorMessageResolver;
+        this.clientErrorLogSampler = new LogSampler(
+                appProperties.getErrorLog().getSampleInterval(),
+                appProperties.getErrorLog().getMaxPerInterval());
+    }
 
     private APIError buildAPIError(String msgId, Object[] params, Map<String, String> errors, Integer status) {
         APIError apiError = new APIError();
-        try {
-            var message = messageSource.getMessage(msgId, params, LocaleContextHolder.getLocale());
-            apiError.setMessage(message);
-        } catch (NoSuchMessageException e) {
-            apiError.setMessage("");
-        }
+        apiError.setMessage(errorMessageResolver.resolve(msgId, params, LocaleContextHolder.getLocale()));
         apiError.setId(msgId);
         apiError.setErrors(errors);
         apiError.setStatus(Objects.nonNull(status) ? String.valueOf(status) : "");
@@ -47,7 +51,25 @@ public class ErrorHandlerController {
 
     @ExceptionHandler(APIException.class)
     public ResponseEntity<APIError> handleAPIException(APIException ex) {
-        log.error("API error :", ex);
+        if (ex.getHttpStatusCode().is4xxClientError()) {
+            long suppressed = clientErrorLogSampler.sample(ex.getMsgId());
+            if (suppressed > 0 && log.isWarnEnabled()) {
+                log.warn(
+                        "API error {} {}: {} ({} similar errors suppressed)",
+                        ex.getHttpStatusCode().value(),
+                        ex.getMsgId(),
+                        Arrays.toString(ex.getParams()),
+                        suppressed);
+            } else if (suppressed == 0 && log.isWarnEnabled()) {
+                log.warn(
+                        "API error {} {}: {}",
+                        ex.getHttpStatusCode().value(),
+                        ex.getMsgId(),
+                        Arrays.toString(ex.getParams()));
+            }
+        } else {
+            log.error("API error :", ex);
+        }
         APIError apiError = buildAPIError(
                 ex.getMsgId(), ex.getParams(), null, ex.getHttpStatusCode().value());
         return ResponseEntity.status(ex.getHttpStatusCode()).body(apiError);
@@ -75,6 +97,9 @@ public class ErrorHandlerController {
         if (ex instanceof CallNotPermittedException) {
             msgId = CIRCUIT_BREAKER_OPEN;
             status = HttpStatus.SERVICE_UNAVAILABLE;
+        } else if (ex instanceof BulkheadFullException) {
+            msgId = BULKHEAD_FULL;
+            status = HttpStatus.SERVICE_UNAVAILABLE;
         }
         APIError apiError = buildAPIError(msgId, null, null, status.value());
         return ResponseEntity.status(status).body(apiError);
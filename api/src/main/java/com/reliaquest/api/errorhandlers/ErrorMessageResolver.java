@@ -0,0 +1,60 @@
+package com.reliaquest.api.errorhandlers;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+/*
+ * Resolves error messages from the MessageSource once per message id and locale. Messages without parameters are
+ * cached as text, the others as a MessageFormat that is applied under its own lock, as MessageFormat is not thread
+ * safe. Unknown message ids resolve to an empty message, as before.
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorMessageResolver {
+
+    private static final int MAX_ENTRIES = 1_024;
+
+    private final MessageSource messageSource;
+    private final Map<Key, Message> messages = new ConcurrentHashMap<>();
+
+    public String resolve(String msgId, Object[] params, Locale locale) {
+        if (Objects.isNull(msgId)) {
+            return "";
+        }
+        Key key = new Key(msgId, locale);
+        Message message = messages.get(key);
+        if (Objects.isNull(message)) {
+            if (messages.size() >= MAX_ENTRIES) {
+                messages.clear();
+            }
+            message = messages.computeIfAbsent(key, this::load);
+        }
+        return message.format(params);
+    }
+
+    private Message load(Key key) {
+        String pattern = messageSource.getMessage(key.msgId(), null, "", key.locale());
+        return new Message(pattern, new MessageFormat(pattern, key.locale()));
+    }
+
+    private record Key(String msgId, Locale locale) {}
+
+    private record Message(String pattern, MessageFormat format) {
+
+        /* Like MessageSource, a message is only run through MessageFormat when there are parameters. */
+        String format(Object[] params) {
+            if (Objects.isNull(params) || params.length == 0) {
+                return pattern;
+            }
+            synchronized (format) {
+                return format.format(params);
+            }
+        }
+    }
+}
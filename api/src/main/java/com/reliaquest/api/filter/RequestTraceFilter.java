@@ -0,0 +1,69 @@
+package com.reliaquest.api.filter;
+
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.trace.RequestTrace;
+import com.reliaquest.api.trace.SlowRequestLog;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Traces each request: takes the X-Trace-Id header of the caller (or makes one up), puts it in the MDC as traceId and
+ * on the response, and hands the finished trace to the slow request log.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private static final Pattern TRACE_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+    private static final String MDC_KEY = "traceId";
+
+    private final AppProperties appProperties;
+    private final SlowRequestLog slowRequestLog;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !appProperties.getTracing().isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        String traceId = traceId(request.getHeader(RequestTrace.HEADER));
+        RequestTrace trace = RequestTrace.start(traceId, request.getMethod(), request.getRequestURI());
+        MDC.put(MDC_KEY, traceId);
+        response.setHeader(RequestTrace.HEADER, traceId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            trace.finish(response.getStatus());
+            slowRequestLog.record(trace);
+            MDC.remove(MDC_KEY);
+            RequestTrace.clear();
+        }
+    }
+
+    private static String traceId(String header) {
+        if (Objects.nonNull(header) && TRACE_ID.matcher(header).matches()) {
+            return header;
+        }
+        return HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextLong());
+    }
+}
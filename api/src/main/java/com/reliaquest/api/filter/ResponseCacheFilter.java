@@ -0,0 +1,151 @@
+package com.reliaquest.api.filter;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/*
+ * Keeps the serialized bodies of polled read endpoints (app.response-cache.endpoints) per normalized Accept header,
+ * tagged with the roster version they were computed from; the least recently used give way beyond max-entries. While
+ * the roster is fresh (app.roster.ttl) and its version unchanged, a poll is answered from those bytes, or with 304 when
+ * its If-None-Match has the ETag, without calling upstream or serializing again. Creates and deletes bump the roster
+ * version, which retires the bodies computed before. The ETag is the hash of the body, so a client also gets 304 after
+ * a roster change that left its result as it was.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private final AppProperties appProperties;
+    private final EmployeeRosterCache employeeRosterCache;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CachedResponse> responses =
+            Collections.synchronizedMap(new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                    return size() > appProperties.getResponseCache().getMaxEntries();
+                }
+            });
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        AppProperties.ResponseCache responseCache = appProperties.getResponseCache();
+        return !responseCache.isEnabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || Objects.nonNull(request.getQueryString())
+                || !responseCache.getEndpoints().contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        String accept = normalizedAccept(request);
+        if (Objects.isNull(accept)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = request.getRequestURI() + " " + accept;
+        long version = employeeRosterCache.getVersion();
+        CachedResponse cached = responses.get(key);
+        if (Objects.nonNull(cached)
+                && cached.version() == version
+                && !employeeRosterCache.isStale(appProperties.getRoster().getTtl())) {
+            addCachingHeaders(response, cached.etag());
+            if (new ServletWebRequest(request, response).checkNotModified(cached.etag())) {
+                counter("not-modified").increment();
+                return;
+            }
+            counter("hit").increment();
+            if (Objects.nonNull(cached.contentType())) {
+                response.setContentType(cached.contentType());
+            }
+            response.setContentLength(cached.body().length);
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        counter("miss").increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        /* Stale fallbacks (Warning header) are not kept, the next poll goes upstream again */
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || wrapper.containsHeader(HttpHeaders.WARNING)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        byte[] body = wrapper.getContentAsByteArray();
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        /*
+         * Tagged with the version from before the request: if the roster changed meanwhile (the request itself may have
+         * refreshed it), the body is simply not served again, rather than served for a roster it was not computed from.
+         */
+        responses.put(key, new CachedResponse(version, etag, wrapper.getContentType(), body));
+        addCachingHeaders(wrapper, etag);
+        if (!new ServletWebRequest(request, response).checkNotModified(etag)) {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /*
+     * The Accept header(s) parsed and written back in one form, so that spacing, case and a missing header (any type)
+     * do not split the cache; null when unparseable, such requests are not cached.
+     */
+    private static String normalizedAccept(HttpServletRequest request) {
+        List<String> accept = Collections.list(request.getHeaders(HttpHeaders.ACCEPT));
+        if (accept.stream().allMatch(String::isBlank)) {
+            return MediaType.ALL_VALUE;
+        }
+        try {
+            return MediaType.toString(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+    }
+
+    private void addCachingHeaders(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (!response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        response.setHeader(
+                HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(appProperties.getResponseCache().getMaxAge())
+                        .cachePrivate()
+                        .mustRevalidate()
+                        .getHeaderValue());
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("employee.api.response.cache")
+                .description("Polls of cached read endpoints by how they were answered")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedResponse(long version, String etag, String contentType, byte[] body) {}
+}
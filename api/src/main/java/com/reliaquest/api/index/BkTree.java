@@ -0,0 +1,98 @@
+package com.reliaquest.api.index;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/*
+ * Burkhard-Keller tree over Levenshtein distance. The triangle inequality lets a search for terms within distance d
+ * skip every subtree whose edge distance lies outside [distance - d, distance + d]. Terms cannot be removed; callers
+ * track dead terms and rebuild. Not thread-safe.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    public boolean add(String term) {
+        if (root == null) {
+            root = new Node(term);
+            size++;
+            return true;
+        }
+        Node node = root;
+        while (true) {
+            int distance = levenshtein(term, node.term);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(term));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    public void search(String query, int maxDistance, ObjIntConsumer<String> consumer) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            int distance = levenshtein(query, node.term);
+            if (distance <= maxDistance) {
+                consumer.accept(node.term, distance);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    stack.push(child.getValue());
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    static int levenshtein(String left, String right) {
+        if (left.length() < right.length()) {
+            String swap = left;
+            left = right;
+            right = swap;
+        }
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            char leftChar = left.charAt(i - 1);
+            for (int j = 1; j <= right.length(); j++) {
+                int substitution = previous[j - 1] + (leftChar == right.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[right.length()];
+    }
+
+    private static final class Node {
+        private final String term;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+}
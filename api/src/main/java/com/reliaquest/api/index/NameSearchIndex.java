@@ -0,0 +1,193 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.NameMatchDTO;
+import com.reliaquest.api.dto.NameMatchDTO.MatchType;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+/*
+ * Name lookups over the roster: exact and prefix matches on full names and on single name tokens come from radix
+ * tries, typo-tolerant matches from a BK-tree over the same terms. Results are ranked exact, prefix, token prefix,
+ * then fuzzy by edit distance.
+ */
+@Component
+public class NameSearchIndex implements RosterListener {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MIN_DEAD_TERMS_BEFORE_REBUILD = 1_024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RadixTrie<EmployeeDTO> fullNames = new RadixTrie<>();
+    private final RadixTrie<EmployeeDTO> nameTokens = new RadixTrie<>();
+    private final Map<String, Set<EmployeeDTO>> termPostings = new HashMap<>();
+    private BkTree termTree = new BkTree();
+    private int deadTerms;
+
+    @Override
+    public void onEmployeeAdded(EmployeeDTO employee) {
+        String name = normalize(employee.getEmployeeName());
+        if (name.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            fullNames.add(name, employee);
+            for (String term : termsOf(name)) {
+                if (!term.equals(name)) {
+                    nameTokens.add(term, employee);
+                }
+                Set<EmployeeDTO> postings = termPostings.get(term);
+                if (postings == null) {
+                    postings = new LinkedHashSet<>();
+                    termPostings.put(term, postings);
+                    termTree.add(term);
+                } else if (postings.isEmpty()) {
+                    deadTerms--;
+                }
+                postings.add(employee);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onEmployeeRemoved(EmployeeDTO employee) {
+        String name = normalize(employee.getEmployeeName());
+        if (name.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            fullNames.remove(name, employee);
+            for (String term : termsOf(name)) {
+                if (!term.equals(name)) {
+                    nameTokens.remove(term, employee);
+                }
+                Set<EmployeeDTO> postings = termPostings.get(term);
+                if (postings != null && postings.remove(employee) && postings.isEmpty()) {
+                    deadTerms++;
+                }
+            }
+            if (deadTerms >= MIN_DEAD_TERMS_BEFORE_REBUILD && deadTerms * 2 > termPostings.size()) {
+                rebuildTermTree();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<NameMatchDTO> autocomplete(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        Map<EmployeeDTO, NameMatchDTO> matches = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            collectPrefixMatches(normalized, limit, matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    public List<NameMatchDTO> search(String query, int maxDistance, int limit) {
+        String normalized = normalize(query);
+        Map<EmployeeDTO, NameMatchDTO> matches = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            collectPrefixMatches(normalized, limit, matches);
+            if (matches.size() < limit && maxDistance > 0) {
+                collectFuzzyMatches(normalized, maxDistance, limit, matches);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    public static String normalize(String name) {
+        if (Objects.isNull(name)) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        String stripped = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(stripped.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private void collectPrefixMatches(String prefix, int limit, Map<EmployeeDTO, NameMatchDTO> matches) {
+        if (prefix.isEmpty()) {
+            return;
+        }
+        for (EmployeeDTO employee : fullNames.get(prefix)) {
+            addMatch(matches, employee, MatchType.EXACT, 0, limit);
+        }
+        for (EmployeeDTO employee : fullNames.withPrefix(prefix, limit)) {
+            addMatch(matches, employee, MatchType.PREFIX, 0, limit);
+        }
+        for (EmployeeDTO employee : nameTokens.withPrefix(prefix, limit)) {
+            addMatch(matches, employee, MatchType.TOKEN_PREFIX, 0, limit);
+        }
+    }
+
+    private void collectFuzzyMatches(
+            String query, int maxDistance, int limit, Map<EmployeeDTO, NameMatchDTO> matches) {
+        List<Map.Entry<String, Integer>> terms = new ArrayList<>();
+        termTree.search(query, maxDistance, (term, distance) -> {
+            Set<EmployeeDTO> postings = termPostings.get(term);
+            if (postings != null && !postings.isEmpty()) {
+                terms.add(Map.entry(term, distance));
+            }
+        });
+        terms.sort(Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        for (Map.Entry<String, Integer> term : terms) {
+            for (EmployeeDTO employee : termPostings.get(term.getKey())) {
+                if (!addMatch(matches, employee, MatchType.FUZZY, term.getValue(), limit)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean addMatch(
+            Map<EmployeeDTO, NameMatchDTO> matches, EmployeeDTO employee, MatchType type, int distance, int limit) {
+        if (matches.size() >= limit) {
+            return false;
+        }
+        matches.putIfAbsent(
+                employee, new NameMatchDTO(employee.getId(), employee.getEmployeeName(), type, distance));
+        return true;
+    }
+
+    private void rebuildTermTree() {
+        termPostings.values().removeIf(Set::isEmpty);
+        BkTree rebuilt = new BkTree();
+        termPostings.keySet().forEach(rebuilt::add);
+        termTree = rebuilt;
+        deadTerms = 0;
+    }
+
+    private static Set<String> termsOf(String normalizedName) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(normalizedName);
+        for (String token : normalizedName.split(" ")) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,198 @@
+package com.reliaquest.api.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/*
+ * Treap augmented with subtree sizes: insert, delete, rank and positional access in O(log n) expected time, and
+ * slices of k consecutive elements from either end in O(k + log n) without sorting. Not thread-safe.
+ */
+public class OrderStatisticTree<T> {
+
+    private final Comparator<? super T> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<T> root;
+
+    public OrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    public boolean add(T value) {
+        if (contains(value)) {
+            return false;
+        }
+        Node<T>[] parts = split(root, value, false);
+        root = merge(merge(parts[0], new Node<>(value, random.nextInt())), parts[1]);
+        return true;
+    }
+
+    public boolean remove(T value) {
+        Node<T>[] lower = split(root, value, false);
+        Node<T>[] upper = split(lower[1], value, true);
+        root = merge(lower[0], upper[1]);
+        return upper[0] != null;
+    }
+
+    public boolean contains(T value) {
+        Node<T> node = root;
+        while (node != null) {
+            int compared = comparator.compare(value, node.value);
+            if (compared == 0) {
+                return true;
+            }
+            node = compared < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public T select(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    public int countLessThan(T probe) {
+        return count(probe, false);
+    }
+
+    public int countAtMost(T probe) {
+        return count(probe, true);
+    }
+
+    public List<T> ascending(int offset, int limit) {
+        return slice(offset, limit, false);
+    }
+
+    public List<T> descending(int offset, int limit) {
+        return slice(offset, limit, true);
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    private int count(T probe, boolean inclusive) {
+        int count = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int compared = comparator.compare(probe, node.value);
+            if (compared > 0 || (inclusive && compared == 0)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private List<T> slice(int offset, int limit, boolean descending) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit must not be negative");
+        }
+        List<T> result = new ArrayList<>(Math.max(0, Math.min(limit, size() - offset)));
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        Node<T> node = root;
+        int skip = offset;
+        while (node != null) {
+            Node<T> near = descending ? node.right : node.left;
+            int nearSize = size(near);
+            if (skip < nearSize) {
+                stack.push(node);
+                node = near;
+            } else if (skip == nearSize) {
+                stack.push(node);
+                break;
+            } else {
+                skip -= nearSize + 1;
+                node = descending ? node.left : node.right;
+            }
+        }
+        while (!stack.isEmpty() && result.size() < limit) {
+            Node<T> current = stack.pop();
+            result.add(current.value);
+            Node<T> next = descending ? current.left : current.right;
+            while (next != null) {
+                stack.push(next);
+                next = descending ? next.right : next.left;
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T>[] split(Node<T> node, T key, boolean inclusive) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        int compared = comparator.compare(node.value, key);
+        if (compared < 0 || (inclusive && compared == 0)) {
+            Node<T>[] parts = split(node.right, key, inclusive);
+            node.right = parts[0];
+            node.update();
+            return new Node[] {node, parts[1]};
+        }
+        Node<T>[] parts = split(node.left, key, inclusive);
+        node.left = parts[1];
+        node.update();
+        return new Node[] {parts[0], node};
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final int priority;
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+}
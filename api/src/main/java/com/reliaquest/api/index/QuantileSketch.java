@@ -0,0 +1,151 @@
+package com.reliaquest.api.index;
+
+/*
+ * Mergeable quantile sketch with logarithmic buckets (DDSketch layout). Every quantile it returns is within
+ * relativeAccuracy of the exact value, values can be removed again, and memory only depends on the value range.
+ * Not thread-safe, callers guard it.
+ */
+public class QuantileSketch {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double multiplier;
+
+    private long[] counts = new long[0];
+    private int offset;
+    private long zeroCount;
+    private long count;
+    private long sum;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.multiplier = 1 / Math.log(gamma);
+    }
+
+    public void add(long value) {
+        update(value, 1);
+    }
+
+    public void remove(long value) {
+        update(value, -1);
+    }
+
+    public void merge(QuantileSketch other) {
+        if (Double.compare(relativeAccuracy, other.relativeAccuracy) != 0) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative accuracy");
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] != 0) {
+                int index = other.offset + i;
+                ensureCapacity(index);
+                counts[index - offset] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+    }
+
+    public double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        if (count <= 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (quantile * (count - 1));
+        long seen = zeroCount;
+        if (seen > rank) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return valueOf(offset + i);
+            }
+        }
+        return valueOf(offset + counts.length - 1);
+    }
+
+    public void forEachBucket(BucketConsumer consumer) {
+        if (zeroCount > 0) {
+            consumer.accept(0, zeroCount);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                consumer.accept(valueOf(offset + i), counts[i]);
+            }
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public double getMean() {
+        return count > 0 ? (double) sum / count : Double.NaN;
+    }
+
+    public boolean isEmpty() {
+        return count <= 0;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    private void update(long value, long delta) {
+        if (value <= 0) {
+            zeroCount += delta;
+        } else {
+            int index = indexOf(value);
+            ensureCapacity(index);
+            counts[index - offset] += delta;
+        }
+        count += delta;
+        sum += value * delta;
+    }
+
+    private int indexOf(long value) {
+        return (int) Math.ceil(Math.log(value) * multiplier);
+    }
+
+    private double valueOf(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    private void ensureCapacity(int index) {
+        if (counts.length == 0) {
+            counts = new long[INITIAL_CAPACITY];
+            offset = index - INITIAL_CAPACITY / 2;
+            return;
+        }
+        if (index >= offset && index < offset + counts.length) {
+            return;
+        }
+        int start = Math.min(index, offset);
+        int end = Math.max(index + 1, offset + counts.length);
+        int slack = (end - start) / 2 + 1;
+        int newOffset = index < offset ? start - slack : start;
+        int newLength = end - newOffset + (index < offset ? 0 : slack);
+        long[] grown = new long[newLength];
+        System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+        counts = grown;
+        offset = newOffset;
+    }
+
+    @FunctionalInterface
+    public interface BucketConsumer {
+        void accept(double value, long count);
+    }
+}
@@ -0,0 +1,194 @@
+package com.reliaquest.api.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/*
+ * Compressed trie mapping string keys to sets of values. Edges carry whole label fragments so memory grows with the
+ * number of keys rather than the number of characters, and prefix lookups walk at most the length of the prefix
+ * before enumerating completions in lexicographic order. Not thread-safe.
+ */
+public class RadixTrie<T> {
+
+    private final Node<T> root = new Node<>("");
+
+    public void add(String key, T value) {
+        Node<T> node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node<T> child = node.child(key.charAt(index));
+            if (child == null) {
+                Node<T> leaf = new Node<>(key.substring(index));
+                leaf.addValue(value);
+                node.putChild(leaf);
+                return;
+            }
+            int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) {
+                Node<T> middle = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.putChild(child);
+                node.putChild(middle);
+                child = middle;
+            }
+            node = child;
+            index += common;
+        }
+        node.addValue(value);
+    }
+
+    public boolean remove(String key, T value) {
+        Deque<Node<T>> path = new ArrayDeque<>();
+        Node<T> node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node<T> child = node.child(key.charAt(index));
+            if (child == null || !key.startsWith(child.label, index)) {
+                return false;
+            }
+            path.push(node);
+            node = child;
+            index += child.label.length();
+        }
+        if (node.values == null || !node.values.remove(value)) {
+            return false;
+        }
+        if (node.values.isEmpty()) {
+            node.values = null;
+        }
+        prune(node, path);
+        return true;
+    }
+
+    public Set<T> get(String key) {
+        Node<T> node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node<T> child = node.child(key.charAt(index));
+            if (child == null || !key.startsWith(child.label, index)) {
+                return Set.of();
+            }
+            node = child;
+            index += child.label.length();
+        }
+        return node.values == null ? Set.of() : node.values;
+    }
+
+    public List<T> withPrefix(String prefix, int limit) {
+        List<T> result = new ArrayList<>(Math.min(limit, 64));
+        Node<T> start = findPrefixNode(prefix);
+        if (start == null || limit <= 0) {
+            return result;
+        }
+        Set<T> seen = new LinkedHashSet<>();
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            Node<T> node = stack.pop();
+            if (node.values != null) {
+                for (T value : node.values) {
+                    if (seen.add(value)) {
+                        result.add(value);
+                        if (result.size() >= limit) {
+                            return result;
+                        }
+                    }
+                }
+            }
+            if (node.children != null) {
+                for (Node<T> child : node.children.descendingMap().values()) {
+                    stack.push(child);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Node<T> findPrefixNode(String prefix) {
+        Node<T> node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            Node<T> child = node.child(prefix.charAt(index));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefixLength(child.label, prefix, index);
+            if (index + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            index += common;
+        }
+        return node;
+    }
+
+    private void prune(Node<T> node, Deque<Node<T>> path) {
+        while (node != root && node.values == null) {
+            int childCount = node.children == null ? 0 : node.children.size();
+            if (childCount > 0) {
+                if (childCount == 1) {
+                    Node<T> onlyChild = node.children.firstEntry().getValue();
+                    node.label = node.label + onlyChild.label;
+                    node.children = onlyChild.children;
+                    node.values = onlyChild.values;
+                }
+                return;
+            }
+            Node<T> parent = path.pop();
+            parent.removeChild(node);
+            node = parent;
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node<T> {
+        private String label;
+        private TreeMap<Character, Node<T>> children;
+        private Set<T> values;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node<T> child(char first) {
+            return children == null ? null : children.get(first);
+        }
+
+        private void putChild(Node<T> child) {
+            if (children == null) {
+                children = new TreeMap<>();
+            }
+            children.put(child.label.charAt(0), child);
+        }
+
+        private void removeChild(Node<T> child) {
+            children.remove(child.label.charAt(0));
+            if (children.isEmpty()) {
+                children = null;
+            }
+        }
+
+        private void addValue(T value) {
+            if (values == null) {
+                values = new LinkedHashSet<>();
+            }
+            values.add(value);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.dto.EmployeeDTO;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SalaryRankIndex implements RosterListener {
+
+    private static final Comparator<EmployeeDTO> SALARY_ORDER =
+            Comparator.comparing(EmployeeDTO::getEmployeeSalary).thenComparing(EmployeeDTO::getId);
+    private static final UUID HIGHEST_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final OrderStatisticTree<EmployeeDTO> tree = new OrderStatisticTree<>(SALARY_ORDER);
+
+    @Override
+    public void onEmployeeAdded(EmployeeDTO employee) {
+        if (!isRankable(employee)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            tree.add(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onEmployeeRemoved(EmployeeDTO employee) {
+        if (!isRankable(employee)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            tree.remove(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<EmployeeDTO> highest(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return tree.descending(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<EmployeeDTO> lowest(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return tree.ascending(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public OptionalInt highestSalary() {
+        List<EmployeeDTO> top = highest(0, 1);
+        return top.isEmpty() ? OptionalInt.empty() : OptionalInt.of(top.get(0).getEmployeeSalary());
+    }
+
+    /*
+     * Competition rank: 1 + number of employees earning strictly more, so equal salaries share a rank.
+     */
+    public OptionalInt rankOf(EmployeeDTO employee) {
+        if (!isRankable(employee)) {
+            return OptionalInt.empty();
+        }
+        EmployeeDTO probe = new EmployeeDTO();
+        probe.setId(HIGHEST_ID);
+        probe.setEmployeeSalary(employee.getEmployeeSalary());
+        lock.readLock().lock();
+        try {
+            if (!tree.contains(employee)) {
+                return OptionalInt.empty();
+            }
+            return OptionalInt.of(tree.size() - tree.countAtMost(probe) + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean isRankable(EmployeeDTO employee) {
+        return Objects.nonNull(employee.getId()) && Objects.nonNull(employee.getEmployeeSalary());
+    }
+}
@@ -0,0 +1,174 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.SalaryGroupStatsDTO;
+import com.reliaquest.api.dto.SalaryHistogramDTO;
+import com.reliaquest.api.dto.SalaryPercentilesDTO;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SalaryStatsIndex implements RosterListener {
+
+    static final String UNKNOWN_GROUP = "Unknown";
+
+    private final double relativeAccuracy;
+    private final int ageBandWidth;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final QuantileSketch overall;
+    private final Map<String, QuantileSketch> byTitle = new HashMap<>();
+    private final Map<Integer, QuantileSketch> byAgeBand = new TreeMap<>();
+
+    @Autowired
+    public SalaryStatsIndex(AppProperties appProperties) {
+        this(
+                appProperties.getAnalytics().getRelativeAccuracy(),
+                appProperties.getAnalytics().getAgeBandWidth());
+    }
+
+    public SalaryStatsIndex(double relativeAccuracy, int ageBandWidth) {
+        if (ageBandWidth <= 0) {
+            throw new IllegalArgumentException("Age band width must be positive: " + ageBandWidth);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.ageBandWidth = ageBandWidth;
+        this.overall = new QuantileSketch(relativeAccuracy);
+    }
+
+    @Override
+    public void onEmployeeAdded(EmployeeDTO employee) {
+        if (Objects.isNull(employee.getEmployeeSalary())) {
+            return;
+        }
+        int salary = employee.getEmployeeSalary();
+        lock.writeLock().lock();
+        try {
+            overall.add(salary);
+            byTitle.computeIfAbsent(titleOf(employee), ignored -> new QuantileSketch(relativeAccuracy))
+                    .add(salary);
+            byAgeBand
+                    .computeIfAbsent(ageBandOf(employee), ignored -> new QuantileSketch(relativeAccuracy))
+                    .add(salary);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onEmployeeRemoved(EmployeeDTO employee) {
+        if (Objects.isNull(employee.getEmployeeSalary())) {
+            return;
+        }
+        int salary = employee.getEmployeeSalary();
+        lock.writeLock().lock();
+        try {
+            overall.remove(salary);
+            removeFromGroup(byTitle, titleOf(employee), salary);
+            removeFromGroup(byAgeBand, ageBandOf(employee), salary);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SalaryPercentilesDTO percentiles(List<Double> percentiles) {
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> values = new LinkedHashMap<>();
+            for (Double percentile : percentiles) {
+                values.put(labelOf(percentile), roundedQuantile(overall, percentile / 100));
+            }
+            return new SalaryPercentilesDTO(overall.getCount(), values);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SalaryHistogramDTO histogram(int bucketWidth) {
+        TreeMap<Integer, Long> bucketCounts = new TreeMap<>();
+        long employeeCount;
+        lock.readLock().lock();
+        try {
+            employeeCount = overall.getCount();
+            overall.forEachBucket((value, count) ->
+                    bucketCounts.merge((int) (Math.round(value) / bucketWidth) * bucketWidth, count, Long::sum));
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<SalaryHistogramDTO.Bucket> buckets = new ArrayList<>(bucketCounts.size());
+        bucketCounts.forEach((lowerBound, count) ->
+                buckets.add(new SalaryHistogramDTO.Bucket(lowerBound, lowerBound + bucketWidth, count)));
+        return new SalaryHistogramDTO(bucketWidth, employeeCount, buckets);
+    }
+
+    public List<SalaryGroupStatsDTO> statsByTitle() {
+        lock.readLock().lock();
+        try {
+            return groupStats(new TreeMap<>(byTitle), Function.identity());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<SalaryGroupStatsDTO> statsByAgeBand() {
+        lock.readLock().lock();
+        try {
+            return groupStats(byAgeBand, band -> band < 0 ? UNKNOWN_GROUP : band + "-" + (band + ageBandWidth - 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <K> List<SalaryGroupStatsDTO> groupStats(Map<K, QuantileSketch> groups, Function<K, String> labeler) {
+        List<SalaryGroupStatsDTO> stats = new ArrayList<>(groups.size());
+        groups.forEach((group, sketch) -> stats.add(new SalaryGroupStatsDTO(
+                labeler.apply(group),
+                sketch.getCount(),
+                (int) Math.round(sketch.getMean()),
+                roundedQuantile(sketch, 0.5))));
+        return stats;
+    }
+
+    private <K> void removeFromGroup(Map<K, QuantileSketch> groups, K group, int salary) {
+        QuantileSketch sketch = groups.get(group);
+        if (sketch == null) {
+            return;
+        }
+        sketch.remove(salary);
+        if (sketch.isEmpty()) {
+            groups.remove(group);
+        }
+    }
+
+    private String titleOf(EmployeeDTO employee) {
+        return Objects.isNull(employee.getEmployeeTitle()) || employee.getEmployeeTitle().isBlank()
+                ? UNKNOWN_GROUP
+                : employee.getEmployeeTitle();
+    }
+
+    private int ageBandOf(EmployeeDTO employee) {
+        if (Objects.isNull(employee.getEmployeeAge())) {
+            return -ageBandWidth;
+        }
+        return (employee.getEmployeeAge() / ageBandWidth) * ageBandWidth;
+    }
+
+    private static Integer roundedQuantile(QuantileSketch sketch, double quantile) {
+        return sketch.isEmpty() ? null : (int) Math.round(sketch.quantile(quantile));
+    }
+
+    private static String labelOf(Double percentile) {
+        return percentile == Math.rint(percentile) ? "p" + percentile.intValue() : "p" + percentile;
+    }
+}
@@ -0,0 +1,297 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.index.QuantileSketch;
+import com.reliaquest.api.trace.RequestTrace;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+/*
+ * Hedges idempotent upstream reads: when the first request has not answered within the hedge delay a second one is
+ * sent, the first answer wins and the other request is cancelled. The delay follows the configured quantile of recent
+ * latencies (a fixed delay until enough samples are in), and a budget earning budgetRatio hedges per request keeps
+ * hedges from exceeding that share of traffic. With hedging disabled calls run on the caller's thread unchanged.
+ *
+ * Requests run on a pool with as many threads as the read bulkhead has permits, and each holds a permit of its own
+ * (cancelled requests hold theirs until their HTTP read returns). A hedge is only sent when a permit and a thread are
+ * free, and when the pool is saturated the call runs on the caller's thread without a hedge.
+ */
+@Component
+@Slf4j
+public class HedgedRequestExecutor {
+
+    private static final int LATENCY_WINDOW = 10_000;
+    private static final double MAX_BUDGET = 10;
+
+    private final AppProperties.Hedging hedging;
+    private final ThreadPoolExecutor executorService;
+    private final Counter hedged;
+    private final Counter hedgeWins;
+    private final Counter budgetExhausted;
+    private QuantileSketch latencies;
+    private QuantileSketch previousLatencies;
+    private double budget;
+
+    @Autowired
+    public HedgedRequestExecutor(
+            AppProperties appProperties, BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        this(
+                appProperties.getHedging(),
+                bulkheadRegistry
+                        .bulkhead(UpstreamOperation.READ.getBulkheadName())
+                        .getBulkheadConfig()
+                        .getMaxConcurrentCalls(),
+                meterRegistry);
+    }
+
+    public HedgedRequestExecutor(AppProperties.Hedging hedging, MeterRegistry meterRegistry) {
+        this(hedging, BulkheadConfig.ofDefaults().getMaxConcurrentCalls(), meterRegistry);
+    }
+
+    public HedgedRequestExecutor(AppProperties.Hedging hedging, int maxThreads, MeterRegistry meterRegistry) {
+        this.hedging = hedging;
+        this.latencies = new QuantileSketch(0.01);
+        this.executorService = hedging.isEnabled()
+                ? new ThreadPoolExecutor(
+                        0, maxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory())
+                : null;
+        this.hedged = Counter.builder("employee.api.upstream.hedge.issued").register(meterRegistry);
+        this.hedgeWins = Counter.builder("employee.api.upstream.hedge.won").register(meterRegistry);
+        this.budgetExhausted =
+                Counter.builder("employee.api.upstream.hedge.budget.exhausted").register(meterRegistry);
+        Gauge.builder("employee.api.upstream.hedge.delay", this, executor -> executor.hedgeDelay().toMillis())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /* Requests without limits of their own, for callers that are not behind a bulkhead */
+    public <T> T execute(Supplier<T> call) {
+        return execute(UpstreamPermit.UNLIMITED, call, () -> Optional.of(UpstreamPermit.UNLIMITED));
+    }
+
+    /*
+     * The first request is sent under permit, which is held until that request is done even when the call returned
+     * with the hedge's answer. The hedge is sent under the permit hedgePermit hands out, and skipped when it has none.
+     */
+    public <T> T execute(UpstreamPermit permit, Supplier<T> call, Supplier<Optional<UpstreamPermit>> hedgePermit) {
+        if (!hedging.isEnabled()) {
+            return permit.run(call);
+        }
+        earnBudget();
+        Race<T> race = new Race<>();
+        Future<?> primary;
+        try {
+            primary = submit(call, race, false, permit);
+        } catch (RejectedExecutionException e) {
+            log.debug("No hedge thread free, calling upstream without hedging");
+            return permit.run(call);
+        }
+        try {
+            return race.winner.get(hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            Future<?> hedge = hedge(call, hedgePermit, race);
+            try {
+                return await(race.winner);
+            } finally {
+                primary.cancel(true);
+                if (hedge != null) {
+                    hedge.cancel(true);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for upstream response", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private <T> Future<?> hedge(Supplier<T> call, Supplier<Optional<UpstreamPermit>> hedgePermit, Race<T> race) {
+        if (!spendBudget()) {
+            budgetExhausted.increment();
+            return null;
+        }
+        Optional<UpstreamPermit> permit = hedgePermit.get();
+        if (permit.isEmpty()) {
+            log.debug("No bulkhead permit free, not sending a hedged request");
+            return null;
+        }
+        race.enter();
+        try {
+            Future<?> hedge = submit(call, race, true, permit.get());
+            hedged.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("No upstream response within {} ms, sent hedged request", hedgeDelay().toMillis());
+            }
+            return hedge;
+        } catch (RejectedExecutionException e) {
+            log.debug("No hedge thread free, not sending a hedged request");
+            permit.get().release();
+            race.leave(null);
+            return null;
+        }
+    }
+
+    /*
+     * The permit goes back when the request is done, including a cancelled one still waiting for its HTTP read, or when
+     * it is cancelled before it started.
+     */
+    private <T> Future<?> submit(Supplier<T> call, Race<T> race, boolean hedge, UpstreamPermit permit) {
+        Supplier<T> traced = RequestTrace.propagate(call);
+        AtomicBoolean claimed = new AtomicBoolean();
+        FutureTask<Void> task = new FutureTask<>(
+                () -> {
+                    if (!claimed.compareAndSet(false, true)) {
+                        return;
+                    }
+                    long started = System.nanoTime();
+                    try {
+                        T result = permit.run(traced);
+                        recordLatency(System.nanoTime() - started);
+                        race.win(result, hedge ? hedgeWins : null);
+                    } catch (Throwable ex) {
+                        race.leave(ex);
+                    }
+                },
+                null) {
+            @Override
+            protected void done() {
+                if (claimed.compareAndSet(false, true)) {
+                    permit.release();
+                }
+            }
+        };
+        executorService.execute(task);
+        return task;
+    }
+
+    /* Bounded by the inbound request's deadline, or the hedging timeout for threads without one */
+    private <T> T await(CompletableFuture<T> winner) {
+        Duration remaining = RequestDeadline.remaining();
+        Duration timeout = remaining == null ? hedging.getTimeout() : remaining;
+        try {
+            return winner.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new ResourceAccessException("No upstream response within " + timeout.toMillis() + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for upstream response", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException(cause);
+    }
+
+    /*
+     * The requests of one hedged call. The first answer wins; a failed request leaves the race, and the call fails
+     * once none is left (errors included, or nobody would complete it), with the first failure.
+     */
+    private static class Race<T> {
+
+        private final CompletableFuture<T> winner = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        void enter() {
+            pending.incrementAndGet();
+        }
+
+        synchronized void win(T result, Counter hedgeWins) {
+            if (!winner.isDone() && hedgeWins != null) {
+                hedgeWins.increment();
+            }
+            winner.complete(result);
+        }
+
+        /* Leaves without an answer, failure null for a request that was never sent */
+        void leave(Throwable cause) {
+            if (cause != null) {
+                failure.compareAndSet(null, cause);
+            }
+            if (pending.decrementAndGet() == 0) {
+                winner.completeExceptionally(failure.get());
+            }
+        }
+    }
+
+    public synchronized Duration hedgeDelay() {
+        QuantileSketch sketch = latencies.getCount() >= hedging.getMinSamples() || previousLatencies == null
+                ? latencies
+                : previousLatencies;
+        if (sketch.getCount() < hedging.getMinSamples()) {
+            return hedging.getDelay();
+        }
+        Duration observed = Duration.ofNanos(
+                TimeUnit.MICROSECONDS.toNanos((long) sketch.quantile(hedging.getQuantile())));
+        return observed.compareTo(hedging.getMinDelay()) < 0 ? hedging.getMinDelay() : observed;
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        latencies.add(TimeUnit.NANOSECONDS.toMicros(nanos));
+        if (latencies.getCount() >= LATENCY_WINDOW) {
+            previousLatencies = latencies;
+            latencies = new QuantileSketch(0.01);
+        }
+    }
+
+    private synchronized void earnBudget() {
+        budget = Math.min(MAX_BUDGET, budget + hedging.getBudgetRatio());
+    }
+
+    private synchronized boolean spendBudget() {
+        if (budget < 1) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger index = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "upstream-hedge-" + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+}
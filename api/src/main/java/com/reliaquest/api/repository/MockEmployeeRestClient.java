@@ -2,6 +2,7 @@ package com.reliaquest.api.repository;
 
 import static com.reliaquest.api.util.Constants.API_V_1_EMPLOYEE;
 import static com.reliaquest.api.util.Constants.APPLICATION_JSON;
+import static com.reliaquest.api.util.Constants.BATCH;
 import static com.reliaquest.api.util.Constants.CONTENT_TYPE;
 import static com.reliaquest.api.util.Constants.SLASH;
 import static org.springframework.http.HttpMethod.DELETE;
@@ -9,11 +10,16 @@ import static org.springframework.http.HttpMethod.GET;
 import static org.springframework.http.HttpMethod.POST;
 
 import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.dto.EmployeeBatchRequest;
 import com.reliaquest.api.dto.EmployeeDeleteRequest;
 import com.reliaquest.api.dto.EmployeeRequest;
 import com.reliaquest.api.model.EmployeeApiResponse;
 import com.reliaquest.api.model.EmployeeDeleteApiResponse;
 import com.reliaquest.api.model.EmployeeListApiResponse;
+import com.reliaquest.api.trace.RequestTrace;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
@@ -31,6 +37,8 @@ public class MockEmployeeRestClient {
 
     private final RestTemplate restTemplate;
     private final AppProperties appProperties;
+    private final UpstreamCallExecutor upstreamCallExecutor;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
 
     private String getUrl() {
         return appProperties.getMockEmployeeService().getUrl() + API_V_1_EMPLOYEE;
@@ -49,7 +57,19 @@ public class MockEmployeeRestClient {
     }
 
     private <T> T executeApiCall(String url, HttpMethod method, Object requestBody, Class<T> responseType) {
+        UpstreamOperation operation = method == GET ? UpstreamOperation.READ : UpstreamOperation.WRITE;
+        return executeApiCall(operation, url, method, requestBody, responseType);
+    }
+
+    private <T> T executeApiCall(
+            UpstreamOperation operation, String url, HttpMethod method, Object requestBody, Class<T> responseType) {
+        return upstreamCallExecutor.execute(
+                operation, method + " " + url, () -> executeApiCallOnce(url, method, requestBody, responseType));
+    }
+
+    private <T> T executeApiCallOnce(String url, HttpMethod method, Object requestBody, Class<T> responseType) {
         log.debug("Executing API call: [{}] {}", method, url);
+        long started = System.nanoTime();
         try {
             ResponseEntity<T> response;
 
@@ -76,6 +96,8 @@ public class MockEmployeeRestClient {
         } catch (Exception ex) {
             log.error("Unexpected error during API call [{} {}]: {}", method, url, ex.getMessage(), ex);
             throw ex;
+        } finally {
+            RequestTrace.recordSince("upstream.attempt", started);
         }
     }
 
@@ -92,8 +114,25 @@ public class MockEmployeeRestClient {
         return executeApiCall(getUrl(), GET, null, EmployeeListApiResponse.class);
     }
 
-    public EmployeeApiResponse getEmployeeById(String id) {
-        return executeApiCall(getUrl() + SLASH + id, GET, null, EmployeeApiResponse.class);
+    public EmployeeApiResponse getEmployeeById(UUID id) {
+        String url = getUrl() + SLASH + id;
+        return upstreamCallExecutor.executeWithPermit(
+                UpstreamOperation.READ,
+                GET + " " + url,
+                permit -> hedgedRequestExecutor.execute(
+                        permit,
+                        () -> executeApiCallOnce(url, GET, null, EmployeeApiResponse.class),
+                        () -> upstreamCallExecutor.tryAcquire(UpstreamOperation.READ)));
+    }
+
+    /* Lookup by id only, so it goes through the read bulkhead and breaker although it is a POST. */
+    public EmployeeListApiResponse getEmployeesByIds(Collection<UUID> ids) {
+        return executeApiCall(
+                UpstreamOperation.READ,
+                getUrl() + BATCH,
+                POST,
+                new EmployeeBatchRequest(new ArrayList<>(ids)),
+                EmployeeListApiResponse.class);
     }
 
     public EmployeeApiResponse createEmployee(EmployeeRequest employeeRequest) {
@@ -0,0 +1,213 @@
+package com.reliaquest.api.repository;
+
+import com.reliaquest.api.dto.EmployeeRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Append-only file of queued employee creations. Every record is framed as [length][crc32][type][payload]; an
+ * enqueued record carries the request, a done record only the tracking id. Opening the journal replays it up to the
+ * first torn or corrupt record and rewrites it to hold just the creations that were still pending.
+ */
+@Slf4j
+public class PendingCreationJournal implements Closeable {
+
+    private static final byte ENQUEUED = 1;
+    private static final byte DONE = 2;
+    private static final int FRAME_HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+    private static final int NULL_LENGTH = -1;
+
+    private final Path path;
+    private final List<Entry> pending;
+    private final FileChannel channel;
+
+    @Value
+    public static class Entry {
+        UUID trackingId;
+        Instant submittedAt;
+        EmployeeRequest request;
+    }
+
+    private PendingCreationJournal(Path path, List<Entry> pending, FileChannel channel) {
+        this.path = path;
+        this.pending = pending;
+        this.channel = channel;
+    }
+
+    public static PendingCreationJournal open(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        List<Entry> pending = Files.exists(path) ? replay(Files.readAllBytes(path), path) : List.of();
+
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel compacted = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (Entry entry : pending) {
+                    compacted.write(ByteBuffer.wrap(frame(ENQUEUED, encode(entry))));
+                }
+                compacted.force(true);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("Opened pending creation journal {} with {} pending creations", path, pending.size());
+        return new PendingCreationJournal(path, pending, channel);
+    }
+
+    /* Creations that were enqueued but never completed, in submission order. */
+    public List<Entry> getPending() {
+        return pending;
+    }
+
+    public synchronized void appendEnqueued(Entry entry, boolean force) throws IOException {
+        append(frame(ENQUEUED, encode(entry)), force);
+    }
+
+    public synchronized void appendDone(UUID trackingId) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(2 * Long.BYTES);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeUuid(out, trackingId);
+        }
+        append(frame(DONE, bytes.toByteArray()), false);
+    }
+
+    private void append(byte[] frame, boolean force) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (force) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.force(true);
+        channel.close();
+        log.debug("Closed pending creation journal {}", path);
+    }
+
+    private static List<Entry> replay(byte[] bytes, Path path) {
+        Map<UUID, Entry> pending = new LinkedHashMap<>();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.remaining() >= FRAME_HEADER_BYTES) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                log.warn("Pending creation journal {} ends with a torn record, ignoring its tail", path);
+                break;
+            }
+            ByteBuffer record = buffer.slice(buffer.position(), length);
+            CRC32 crc = new CRC32();
+            crc.update(record.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                log.warn("Pending creation journal {} has a corrupt record, ignoring its tail", path);
+                break;
+            }
+            buffer.position(buffer.position() + length);
+            try {
+                byte type = record.get();
+                UUID trackingId = new UUID(record.getLong(), record.getLong());
+                if (type == ENQUEUED) {
+                    Instant submittedAt = Instant.ofEpochMilli(record.getLong());
+                    EmployeeRequest request = new EmployeeRequest(
+                            readString(record), readInteger(record), readInteger(record), readString(record));
+                    pending.put(trackingId, new Entry(trackingId, submittedAt, request));
+                } else if (type == DONE) {
+                    pending.remove(trackingId);
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+                log.warn("Pending creation journal {} has an unreadable record, ignoring its tail", path);
+                break;
+            }
+        }
+        return new ArrayList<>(pending.values());
+    }
+
+    private static byte[] encode(Entry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeUuid(out, entry.getTrackingId());
+            out.writeLong(entry.getSubmittedAt().toEpochMilli());
+            writeString(out, entry.getRequest().getName());
+            writeInteger(out, entry.getRequest().getSalary());
+            writeInteger(out, entry.getRequest().getAge());
+            writeString(out, entry.getRequest().getTitle());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] frame(byte type, byte[] payload) {
+        ByteBuffer record = ByteBuffer.allocate(1 + payload.length).put(type).put(payload);
+        CRC32 crc = new CRC32();
+        crc.update(record.array());
+        return ByteBuffer.allocate(FRAME_HEADER_BYTES + record.capacity())
+                .putInt(record.capacity())
+                .putInt((int) crc.getValue())
+                .put(record.array())
+                .array();
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        out.writeInt(value == null ? 0 : value);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] encoded = new byte[length];
+        buffer.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    private static Integer readInteger(ByteBuffer buffer) {
+        boolean present = buffer.get() != 0;
+        int value = buffer.getInt();
+        return present ? value : null;
+    }
+}
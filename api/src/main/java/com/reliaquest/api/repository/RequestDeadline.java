@@ -0,0 +1,48 @@
+package com.reliaquest.api.repository;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/*
+ * Deadline of the inbound request being served by the current thread, used to bound the time spent retrying upstream
+ * calls on its behalf. Threads without a deadline (background refreshes) are only bounded by the retry policy.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {}
+
+    public static void start(Duration budget) {
+        DEADLINE_NANOS.set(System.nanoTime() + budget.toNanos());
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /* Remaining time before the deadline, or null when the current thread has no deadline. */
+    public static Duration remaining() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? null : Duration.ofNanos(Math.max(0L, deadline - System.nanoTime()));
+    }
+
+    /* Runs the work with the given remaining time as the deadline (none when null), then restores the thread's own. */
+    public static <T> T within(Duration remaining, Supplier<T> work) {
+        Long previous = DEADLINE_NANOS.get();
+        if (remaining == null) {
+            DEADLINE_NANOS.remove();
+        } else {
+            start(remaining);
+        }
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                DEADLINE_NANOS.remove();
+            } else {
+                DEADLINE_NANOS.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.reliaquest.api.repository;
+
+import static com.reliaquest.api.util.Constants.MOCK_SERVICE_API_RETRY;
+
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.trace.RequestTrace;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.functions.Either;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+/*
+ * Runs a single upstream call under the bulkhead and circuit breaker of its operation class, retrying it as configured
+ * for mockServiceApiRetry (attempts, backoff, retryable exceptions). Every attempt takes a bulkhead permit and goes
+ * through the breaker, but no permit is held while waiting to retry. A Retry-After header takes precedence over the
+ * configured backoff, backoff is jittered, and no wait is started that would end past the inbound request's deadline
+ * or exceed the maximum wait.
+ */
+@Component
+@Slf4j
+public class UpstreamCallExecutor {
+
+    private final RetryConfig retryConfig;
+    private final Map<UpstreamOperation, CircuitBreaker> circuitBreakers;
+    private final Map<UpstreamOperation, Bulkhead> bulkheads;
+    private final Map<UpstreamOperation, AtomicInteger> queueDepths = new EnumMap<>(UpstreamOperation.class);
+    private final double jitter;
+    private final Duration maxWait;
+
+    @Autowired
+    public UpstreamCallExecutor(
+            RetryRegistry retryRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            AppProperties appProperties) {
+        this(
+                retryRegistry.retry(MOCK_SERVICE_API_RETRY).getRetryConfig(),
+                byOperation(operation -> circuitBreakerRegistry.circuitBreaker(operation.getCircuitBreakerName())),
+                byOperation(operation -> bulkheadRegistry.bulkhead(operation.getBulkheadName())),
+                appProperties.getRetry().getJitter(),
+                appProperties.getRetry().getMaxWait());
+        bindMetrics(meterRegistry);
+    }
+
+    /* Reads and writes share the given breaker, each behind a default bulkhead. */
+    public UpstreamCallExecutor(
+            RetryConfig retryConfig, CircuitBreaker circuitBreaker, double jitter, Duration maxWait) {
+        this(
+                retryConfig,
+                byOperation(operation -> circuitBreaker),
+                byOperation(operation -> Bulkhead.ofDefaults(operation.getBulkheadName())),
+                jitter,
+                maxWait);
+    }
+
+    public UpstreamCallExecutor(
+            RetryConfig retryConfig,
+            Map<UpstreamOperation, CircuitBreaker> circuitBreakers,
+            Map<UpstreamOperation, Bulkhead> bulkheads,
+            double jitter,
+            Duration maxWait) {
+        this.retryConfig = retryConfig;
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+        this.jitter = jitter;
+        this.maxWait = maxWait;
+        for (UpstreamOperation operation : UpstreamOperation.values()) {
+            queueDepths.put(operation, new AtomicInteger());
+        }
+    }
+
+    /* Calls waiting for a bulkhead permit, rejected calls and calls in flight, per operation class */
+    private void bindMetrics(MeterRegistry meterRegistry) {
+        for (UpstreamOperation operation : UpstreamOperation.values()) {
+            String tag = operation.name().toLowerCase();
+            Bulkhead bulkhead = bulkheads.get(operation);
+            Gauge.builder("employee.api.upstream.bulkhead.queue.depth", queueDepths.get(operation), AtomicInteger::get)
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            Gauge.builder("employee.api.upstream.bulkhead.in.flight", bulkhead, UpstreamCallExecutor::inFlight)
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            Counter rejected = Counter.builder("employee.api.upstream.bulkhead.rejected")
+                    .tag("operation", tag)
+                    .register(meterRegistry);
+            bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+        }
+    }
+
+    private static double inFlight(Bulkhead bulkhead) {
+        return bulkhead.getBulkheadConfig().getMaxConcurrentCalls()
+                - bulkhead.getMetrics().getAvailableConcurrentCalls();
+    }
+
+    private static <T> Map<UpstreamOperation, T> byOperation(Function<UpstreamOperation, T> factory) {
+        Map<UpstreamOperation, T> map = new EnumMap<>(UpstreamOperation.class);
+        for (UpstreamOperation operation : UpstreamOperation.values()) {
+            map.put(operation, factory.apply(operation));
+        }
+        return map;
+    }
+
+    public <T> T execute(UpstreamOperation operation, String description, Supplier<T> call) {
+        return executeWithPermit(operation, description, permit -> permit.run(call));
+    }
+
+    /*
+     * Like execute, but each attempt's permit is handed to the call instead of held around it, for calls that send
+     * the request from another thread: the call runs it under the permit or releases it, and a request still in flight
+     * after the attempt returned (a cancelled one) keeps its permit until it is done.
+     */
+    public <T> T executeWithPermit(UpstreamOperation operation, String description, Function<UpstreamPermit, T> call) {
+        int attempt = 1;
+        while (true) {
+            try {
+                return attempt(operation, call);
+            } catch (RuntimeException ex) {
+                if (attempt >= retryConfig.getMaxAttempts() || !retryConfig.getExceptionPredicate().test(ex)) {
+                    throw ex;
+                }
+                Duration wait = waitBeforeRetry(attempt, ex);
+                Duration remaining = RequestDeadline.remaining();
+                if (wait.compareTo(maxWait) > 0 || (remaining != null && wait.compareTo(remaining) > 0)) {
+                    log.warn(
+                            "Not retrying {} after attempt {}: wait of {} ms exceeds the remaining budget",
+                            description,
+                            attempt,
+                            wait.toMillis());
+                    throw ex;
+                }
+                log.debug("Retrying {} in {} ms after attempt {} failed", description, wait.toMillis(), attempt);
+                sleep(wait, ex);
+                attempt++;
+            }
+        }
+    }
+
+    private <T> T attempt(UpstreamOperation operation, Function<UpstreamPermit, T> call) {
+        Bulkhead bulkhead = bulkheads.get(operation);
+        AtomicInteger queueDepth = queueDepths.get(operation);
+        queueDepth.incrementAndGet();
+        try {
+            bulkhead.acquirePermission();
+        } finally {
+            queueDepth.decrementAndGet();
+        }
+        return call.apply(permit(operation));
+    }
+
+    /*
+     * Admits an extra request of the operation next to the attempt in progress (a hedge): a bulkhead permit if one is
+     * free right away, and the request goes through the operation's breaker.
+     */
+    public Optional<UpstreamPermit> tryAcquire(UpstreamOperation operation) {
+        Bulkhead bulkhead = bulkheads.get(operation);
+        if (!bulkhead.tryAcquirePermission()) {
+            return Optional.empty();
+        }
+        return Optional.of(permit(operation));
+    }
+
+    /* The bulkhead permit already taken for the operation, going back once */
+    private UpstreamPermit permit(UpstreamOperation operation) {
+        Bulkhead bulkhead = bulkheads.get(operation);
+        CircuitBreaker circuitBreaker = circuitBreakers.get(operation);
+        AtomicBoolean released = new AtomicBoolean();
+        return new UpstreamPermit() {
+            @Override
+            public <T> T run(Supplier<T> call) {
+                try {
+                    return circuitBreaker.executeSupplier(call);
+                } finally {
+                    release();
+                }
+            }
+
+            @Override
+            public void release() {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.onComplete();
+                }
+            }
+        };
+    }
+
+    Duration waitBeforeRetry(int attempt, RuntimeException ex) {
+        Duration retryAfter = retryAfter(ex);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (retryAfter != null) {
+            /* Never earlier than asked, spread clients that were told the same instant */
+            return retryAfter.plusMillis((long) (retryAfter.toMillis() * jitter * random.nextDouble()));
+        }
+        long backoffMillis = retryConfig.getIntervalBiFunction().apply(attempt, Either.left(ex));
+        return Duration.ofMillis((long) (backoffMillis * (1 + jitter * (2 * random.nextDouble() - 1))));
+    }
+
+    private static Duration retryAfter(RuntimeException ex) {
+        if (!(ex instanceof RestClientResponseException responseException)
+                || Objects.isNull(responseException.getResponseHeaders())) {
+            return null;
+        }
+        String value = responseException.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (Objects.isNull(value) || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0L, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Duration untilDate = Duration.between(
+                        ZonedDateTime.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException ignored) {
+                log.debug("Ignoring unparseable Retry-After header: {}", value);
+                return null;
+            }
+        }
+    }
+
+    private static void sleep(Duration wait, RuntimeException cause) {
+        long started = System.nanoTime();
+        try {
+            Thread.sleep(wait.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        } finally {
+            RequestTrace.recordSince("retry.wait", started);
+        }
+    }
+}
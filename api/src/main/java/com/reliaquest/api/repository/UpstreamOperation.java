@@ -0,0 +1,20 @@
+package com.reliaquest.api.repository;
+
+import static com.reliaquest.api.util.Constants.MOCK_SERVICE_API_CIRCUIT_BREAKER;
+import static com.reliaquest.api.util.Constants.MOCK_SERVICE_API_READ_BULKHEAD;
+import static com.reliaquest.api.util.Constants.MOCK_SERVICE_API_WRITE_BULKHEAD;
+import static com.reliaquest.api.util.Constants.MOCK_SERVICE_API_WRITE_CIRCUIT_BREAKER;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* Class of upstream call, each with its own bulkhead and circuit breaker so that reads cannot starve or trip writes. */
+@Getter
+@AllArgsConstructor
+public enum UpstreamOperation {
+    READ(MOCK_SERVICE_API_CIRCUIT_BREAKER, MOCK_SERVICE_API_READ_BULKHEAD),
+    WRITE(MOCK_SERVICE_API_WRITE_CIRCUIT_BREAKER, MOCK_SERVICE_API_WRITE_BULKHEAD);
+
+    private final String circuitBreakerName;
+    private final String bulkheadName;
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.repository;
+
+import java.util.function.Supplier;
+
+/*
+ * Admission of one upstream request of an operation, taken before the request is sent, possibly from another thread.
+ * run() sends it under the limits it was admitted to and gives the permit back; release() gives it back for a request
+ * that is not sent after all. Releasing more than once has no effect.
+ */
+public interface UpstreamPermit {
+
+    /* For callers that are not behind a bulkhead or breaker */
+    UpstreamPermit UNLIMITED = new UpstreamPermit() {
+        @Override
+        public <T> T run(Supplier<T> call) {
+            return call.get();
+        }
+
+        @Override
+        public void release() {}
+    };
+
+    <T> T run(Supplier<T> call);
+
+    void release();
+}
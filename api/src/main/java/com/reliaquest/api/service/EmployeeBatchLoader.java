@@ -0,0 +1,216 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.model.EmployeeListApiResponse;
+import com.reliaquest.api.repository.MockEmployeeRestClient;
+import com.reliaquest.api.repository.RequestDeadline;
+import com.reliaquest.api.trace.RequestTrace;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.dozer.DozerBeanMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+/*
+ * Micro-batches lookups by id. Concurrent lookups arriving within the batching window (or until the batch is full) are
+ * resolved together, by one multi-id upstream request or by one roster fetch, and each caller gets its own employee.
+ * A batch is fetched under the earliest deadline of its callers and with the trace of the request that opened it, and
+ * each caller waits for it no longer than its own deadline (app.batching.timeout without one).
+ */
+@Component
+@Slf4j
+public class EmployeeBatchLoader {
+
+    private final MockEmployeeRestClient mockEmployeeRestClient;
+    private final DozerBeanMapper dozerBeanMapper;
+    private final EmployeeRosterCache employeeRosterCache;
+    private final AppProperties.Batching batching;
+    private final ScheduledExecutorService scheduler;
+    private final Object lock = new Object();
+    private Map<UUID, CompletableFuture<Optional<EmployeeDTO>>> pending = new LinkedHashMap<>();
+    private Long pendingDeadlineNanos;
+    private ScheduledFuture<Void> scheduledFlush;
+    private long generation;
+
+    @Autowired
+    public EmployeeBatchLoader(
+            MockEmployeeRestClient mockEmployeeRestClient,
+            DozerBeanMapper dozerBeanMapper,
+            EmployeeRosterCache employeeRosterCache,
+            AppProperties appProperties) {
+        this(mockEmployeeRestClient, dozerBeanMapper, employeeRosterCache, appProperties.getBatching());
+    }
+
+    public EmployeeBatchLoader(
+            MockEmployeeRestClient mockEmployeeRestClient,
+            DozerBeanMapper dozerBeanMapper,
+            EmployeeRosterCache employeeRosterCache,
+            AppProperties.Batching batching) {
+        this.mockEmployeeRestClient = mockEmployeeRestClient;
+        this.dozerBeanMapper = dozerBeanMapper;
+        this.employeeRosterCache = employeeRosterCache;
+        this.batching = batching;
+        AtomicInteger index = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(batching.getConcurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "employee-batch-" + index.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isEnabled() {
+        return batching.isEnabled();
+    }
+
+    public Optional<EmployeeDTO> load(UUID id) {
+        Duration remaining = RequestDeadline.remaining();
+        CompletableFuture<Optional<EmployeeDTO>> result;
+        Batch fullBatch = null;
+        synchronized (lock) {
+            result = pending.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (remaining != null) {
+                long deadlineNanos = System.nanoTime() + remaining.toNanos();
+                if (pendingDeadlineNanos == null || deadlineNanos - pendingDeadlineNanos < 0) {
+                    pendingDeadlineNanos = deadlineNanos;
+                }
+            }
+            if (pending.size() >= batching.getMaxBatchSize()) {
+                fullBatch = drain();
+            } else if (scheduledFlush == null) {
+                long batchGeneration = generation;
+                Supplier<Void> flush = RequestTrace.propagate(() -> {
+                    flushPending(batchGeneration);
+                    return null;
+                });
+                scheduledFlush = scheduler.schedule(flush::get, batching.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            flush(fullBatch);
+        }
+        return await(result);
+    }
+
+    private Optional<EmployeeDTO> await(CompletableFuture<Optional<EmployeeDTO>> result) {
+        Duration remaining = RequestDeadline.remaining();
+        Duration timeout = remaining == null ? batching.getTimeout() : remaining;
+        try {
+            return result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new ResourceAccessException("No batched lookup result within " + timeout.toMillis() + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batched lookup", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        }
+    }
+
+    /* Resolves the given ids right away, in as few upstream requests as the batch size allows. */
+    public Map<UUID, EmployeeDTO> loadAll(Collection<UUID> ids) {
+        List<UUID> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        int batchSize = batching.getSource() == AppProperties.Batching.Source.ROSTER
+                ? Math.max(1, distinct.size())
+                : batching.getMaxBatchSize();
+        Map<UUID, EmployeeDTO> found = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            found.putAll(fetch(distinct.subList(from, Math.min(distinct.size(), from + batchSize))));
+        }
+        return found;
+    }
+
+    /* Flushes the batch of the given generation, unless it was already drained early as a full batch */
+    private void flushPending(long batchGeneration) {
+        Batch batch;
+        synchronized (lock) {
+            if (batchGeneration != generation) {
+                return;
+            }
+            batch = drain();
+        }
+        if (!batch.results().isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private Batch drain() {
+        Batch batch = new Batch(pending, pendingDeadlineNanos);
+        pending = new LinkedHashMap<>();
+        pendingDeadlineNanos = null;
+        generation++;
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void flush(Batch batch) {
+        Map<UUID, CompletableFuture<Optional<EmployeeDTO>>> results = batch.results();
+        Duration remaining = batch.deadlineNanos() == null
+                ? null
+                : Duration.ofNanos(Math.max(0L, batch.deadlineNanos() - System.nanoTime()));
+        try {
+            Map<UUID, EmployeeDTO> found = RequestDeadline.within(remaining, () -> fetch(results.keySet()));
+            log.debug("Resolved batch of {} ids, {} found", results.size(), found.size());
+            results.forEach((id, result) -> result.complete(Optional.ofNullable(found.get(id))));
+        } catch (RuntimeException ex) {
+            results.values().forEach(result -> result.completeExceptionally(ex));
+        }
+    }
+
+    private Map<UUID, EmployeeDTO> fetch(Collection<UUID> ids) {
+        if (batching.getSource() == AppProperties.Batching.Source.ROSTER) {
+            Set<UUID> wanted = new HashSet<>(ids);
+            List<EmployeeDTO> roster = map(mockEmployeeRestClient.getAllEmployees());
+            employeeRosterCache.replaceAll(roster);
+            return roster.stream()
+                    .filter(employee -> wanted.contains(employee.getId()))
+                    .collect(Collectors.toMap(EmployeeDTO::getId, employee -> employee, (first, second) -> first));
+        }
+        return map(mockEmployeeRestClient.getEmployeesByIds(ids)).stream()
+                .collect(Collectors.toMap(EmployeeDTO::getId, employee -> employee, (first, second) -> first));
+    }
+
+    private List<EmployeeDTO> map(EmployeeListApiResponse response) {
+        if (response == null || response.getData() == null) {
+            return List.of();
+        }
+        return response.getData().stream()
+                .map(employee -> dozerBeanMapper.map(employee, EmployeeDTO.class))
+                .collect(Collectors.toList());
+    }
+
+    /* The lookups of one batch and the earliest deadline among their requests (null when none has one) */
+    private record Batch(Map<UUID, CompletableFuture<Optional<EmployeeDTO>>> results, Long deadlineNanos) {}
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
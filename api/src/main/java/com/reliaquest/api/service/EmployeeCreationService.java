@@ -0,0 +1,11 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeCreationDTO;
+import com.reliaquest.api.dto.EmployeeRequest;
+
+public interface EmployeeCreationService {
+
+    EmployeeCreationDTO submit(EmployeeRequest employeeRequest, String ack);
+
+    EmployeeCreationDTO getCreation(String trackingId);
+}
@@ -0,0 +1,275 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.util.Constants.ASYNC_QUEUE_FULL;
+import static com.reliaquest.api.util.Constants.INVALID_REQUEST_PARAMETER;
+import static com.reliaquest.api.util.Constants.INVALID_UUID_FORMAT;
+import static com.reliaquest.api.util.Constants.MOCK_SERVICE_API_WRITE_RATE_LIMITER;
+import static com.reliaquest.api.util.Constants.OBJECT_NOT_FOUND;
+
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.dto.EmployeeCreationDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeRequest;
+import com.reliaquest.api.errorhandlers.APIException;
+import com.reliaquest.api.repository.PendingCreationJournal;
+import com.reliaquest.api.util.UUIDParser;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+/*
+ * Asynchronous employee creation. Submitted requests are validated by the caller, given a tracking id and queued in
+ * a bounded queue, optionally journaled to disk first; a single writer thread drains the queue in batches, pacing
+ * upstream creates with mockServiceApiWriteRateLimiter. While upstream is unavailable (breaker open, bulkhead full,
+ * throttled past the retries) the batch goes back to the head of the queue and the writer backs off. Creation is at
+ * least once: a create that reached upstream but whose answer was lost is sent again.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "app.async-create", name = "enabled", havingValue = "true")
+public class EmployeeCreationServiceImpl implements EmployeeCreationService {
+
+    private final EmployeeService<EmployeeDTO, EmployeeRequest> employeeService;
+    private final RateLimiter rateLimiter;
+    private final AppProperties.AsyncCreate asyncCreate;
+    private final MeterRegistry meterRegistry;
+    private final BlockingDeque<PendingCreationJournal.Entry> queue = new LinkedBlockingDeque<>();
+    private final Map<UUID, EmployeeCreationDTO> creations = new ConcurrentHashMap<>();
+    private final Queue<UUID> finished = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedCount = new AtomicInteger();
+    /* Queue slots taken by submissions still being journaled, guarded by the queue's monitor */
+    private int reserved;
+    private PendingCreationJournal journal;
+    private Thread writer;
+    private volatile boolean running;
+
+    @Autowired
+    public EmployeeCreationServiceImpl(
+            EmployeeService<EmployeeDTO, EmployeeRequest> employeeService,
+            RateLimiterRegistry rateLimiterRegistry,
+            AppProperties appProperties,
+            MeterRegistry meterRegistry) {
+        this(
+                employeeService,
+                rateLimiterRegistry.rateLimiter(MOCK_SERVICE_API_WRITE_RATE_LIMITER),
+                appProperties.getAsyncCreate(),
+                meterRegistry);
+    }
+
+    public EmployeeCreationServiceImpl(
+            EmployeeService<EmployeeDTO, EmployeeRequest> employeeService,
+            RateLimiter rateLimiter,
+            AppProperties.AsyncCreate asyncCreate,
+            MeterRegistry meterRegistry) {
+        this.employeeService = employeeService;
+        this.rateLimiter = rateLimiter;
+        this.asyncCreate = asyncCreate;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("employee.api.async.create.queue.depth", queue, BlockingDeque::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (Objects.nonNull(asyncCreate.getJournalPath()) && !asyncCreate.getJournalPath().isBlank()) {
+            journal = PendingCreationJournal.open(Path.of(asyncCreate.getJournalPath()));
+            for (PendingCreationJournal.Entry entry : journal.getPending()) {
+                creations.put(
+                        entry.getTrackingId(),
+                        EmployeeCreationDTO.queued(entry.getTrackingId(), entry.getSubmittedAt()));
+                queue.add(entry);
+            }
+        }
+        running = true;
+        writer = new Thread(this::drain, "employee-creation-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public EmployeeCreationDTO submit(EmployeeRequest employeeRequest, String ack) {
+        boolean durable = parseAck(ack);
+        PendingCreationJournal.Entry entry = new PendingCreationJournal.Entry(
+                UUID.randomUUID(), Instant.now().truncatedTo(ChronoUnit.MILLIS), employeeRequest);
+        EmployeeCreationDTO creation = EmployeeCreationDTO.queued(entry.getTrackingId(), entry.getSubmittedAt());
+        synchronized (queue) {
+            if (queue.size() + reserved >= asyncCreate.getCapacity()) {
+                log.warn("Async creation queue is full ({} pending), rejecting request", queue.size() + reserved);
+                throw new APIException(ASYNC_QUEUE_FULL, new Object[] {}, HttpStatus.TOO_MANY_REQUESTS);
+            }
+            reserved++;
+        }
+        /* Journaled outside the lock, so one submission's fsync does not hold up the others */
+        boolean journaled = false;
+        try {
+            if (Objects.nonNull(journal)) {
+                journal.appendEnqueued(entry, durable);
+            }
+            journaled = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to journal employee creation", e);
+        } finally {
+            synchronized (queue) {
+                reserved--;
+                if (journaled) {
+                    creations.put(entry.getTrackingId(), creation);
+                    queue.add(entry);
+                }
+            }
+        }
+        log.debug("Queued employee creation {}", entry.getTrackingId());
+        return creation;
+    }
+
+    @Override
+    public EmployeeCreationDTO getCreation(String trackingId) {
+        UUID id = UUIDParser.parse(trackingId);
+        if (Objects.isNull(id)) {
+            throw new APIException(INVALID_UUID_FORMAT, new Object[] {trackingId}, HttpStatus.BAD_REQUEST);
+        }
+        EmployeeCreationDTO creation = creations.get(id);
+        if (Objects.isNull(creation)) {
+            throw new APIException(OBJECT_NOT_FOUND, new Object[] {trackingId}, HttpStatus.NOT_FOUND);
+        }
+        return creation;
+    }
+
+    private boolean parseAck(String ack) {
+        if (Objects.isNull(ack) || ack.equalsIgnoreCase("queued")) {
+            return false;
+        }
+        if (ack.equalsIgnoreCase("durable") && Objects.nonNull(journal)) {
+            return true;
+        }
+        throw new APIException(INVALID_REQUEST_PARAMETER, new Object[] {"ack", ack}, HttpStatus.BAD_REQUEST);
+    }
+
+    private void drain() {
+        List<PendingCreationJournal.Entry> batch = new ArrayList<>(asyncCreate.getBatchSize());
+        while (running) {
+            try {
+                PendingCreationJournal.Entry first = queue.poll(1, TimeUnit.SECONDS);
+                if (Objects.isNull(first)) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, asyncCreate.getBatchSize() - 1);
+                for (int i = 0; i < batch.size(); i++) {
+                    if (!write(batch.get(i))) {
+                        requeue(batch.subList(i, batch.size()));
+                        log.warn(
+                                "Upstream unavailable, {} queued creations wait {}",
+                                queue.size(),
+                                asyncCreate.getBackoff());
+                        Thread.sleep(asyncCreate.getBackoff().toMillis());
+                        break;
+                    }
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void requeue(List<PendingCreationJournal.Entry> entries) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            PendingCreationJournal.Entry entry = entries.get(i);
+            update(entry, creation -> creation.withStatus(EmployeeCreationDTO.Status.QUEUED));
+            queue.addFirst(entry);
+        }
+        entries.clear();
+    }
+
+    /* False when upstream is unavailable and the creation should be tried again later. */
+    private boolean write(PendingCreationJournal.Entry entry) {
+        if (!rateLimiter.acquirePermission()) {
+            return false;
+        }
+        update(entry, creation -> creation.withStatus(EmployeeCreationDTO.Status.WRITING));
+        try {
+            EmployeeDTO employee = employeeService.createEmployee(entry.getRequest());
+            finish(entry, EmployeeCreationDTO.Status.CREATED, creation -> creation.withEmployee(employee));
+        } catch (CallNotPermittedException | BulkheadFullException | HttpClientErrorException.TooManyRequests ex) {
+            return false;
+        } catch (RuntimeException ex) {
+            log.warn("Queued employee creation {} failed: {}", entry.getTrackingId(), ex.getMessage());
+            finish(entry, EmployeeCreationDTO.Status.FAILED, creation -> creation.withError(ex.getMessage()));
+        }
+        return true;
+    }
+
+    /* Each update swaps in a new snapshot, so status readers on request threads never see one half-changed */
+    private void update(PendingCreationJournal.Entry entry, UnaryOperator<EmployeeCreationDTO> change) {
+        creations.computeIfPresent(entry.getTrackingId(), (id, creation) -> change.apply(creation));
+    }
+
+    private void finish(
+            PendingCreationJournal.Entry entry,
+            EmployeeCreationDTO.Status status,
+            UnaryOperator<EmployeeCreationDTO> outcome) {
+        String completedAt = Instant.now().toString();
+        update(entry, creation -> outcome.apply(creation).withStatus(status).withCompletedAt(completedAt));
+        meterRegistry
+                .counter("employee.api.async.create.completed", "outcome", status.name().toLowerCase(Locale.ROOT))
+                .increment();
+        if (Objects.nonNull(journal)) {
+            try {
+                journal.appendDone(entry.getTrackingId());
+            } catch (IOException e) {
+                log.warn("Unable to journal completion of creation {}: {}", entry.getTrackingId(), e.getMessage());
+            }
+        }
+        finished.add(entry.getTrackingId());
+        if (finishedCount.incrementAndGet() > asyncCreate.getRetained()) {
+            UUID evicted = finished.poll();
+            if (Objects.nonNull(evicted)) {
+                creations.remove(evicted);
+                finishedCount.decrementAndGet();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        if (Objects.nonNull(writer)) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (Objects.nonNull(journal)) {
+            journal.close();
+        }
+    }
+}
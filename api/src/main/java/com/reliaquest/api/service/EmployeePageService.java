@@ -0,0 +1,10 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeePageDTO;
+
+public interface EmployeePageService {
+
+    EmployeePageDTO getEmployeePage(String cursor, Integer offset, int limit, String fields);
+
+    EmployeePageDTO searchEmployeePage(String searchString, String cursor, Integer offset, int limit, String fields);
+}
@@ -0,0 +1,129 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.util.Constants.INVALID_REQUEST_PARAMETER;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.errorhandlers.APIException;
+import com.reliaquest.api.util.UUIDParser;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@AllArgsConstructor
+public class EmployeePageServiceImpl implements EmployeePageService {
+
+    private static final Set<String> PROJECTABLE_FIELDS = Set.of(
+            "id", "employee_name", "employee_salary", "employee_age", "employee_title", "employee_email");
+
+    private final EmployeeRosterService employeeRosterService;
+    private final AppProperties appProperties;
+
+    @Override
+    public EmployeePageDTO getEmployeePage(String cursor, Integer offset, int limit, String fields) {
+        EmployeeRosterCache roster = employeeRosterService.ensureFresh();
+        EmployeePageDTO page = buildPage(roster, employee -> true, cursor, offset, limit, fields);
+        page.setTotal(roster.size());
+        return page;
+    }
+
+    @Override
+    public EmployeePageDTO searchEmployeePage(
+            String searchString, String cursor, Integer offset, int limit, String fields) {
+        if (Objects.isNull(searchString) || searchString.isEmpty()) {
+            throw new APIException(
+                    INVALID_REQUEST_PARAMETER, new Object[] {"query", searchString}, HttpStatus.BAD_REQUEST);
+        }
+        String normalizedSearch = searchString.toLowerCase();
+        EmployeeRosterCache roster = employeeRosterService.ensureFresh();
+        return buildPage(
+                roster,
+                employee -> Objects.nonNull(employee.getEmployeeName())
+                        && employee.getEmployeeName().toLowerCase().contains(normalizedSearch),
+                cursor,
+                offset,
+                limit,
+                fields);
+    }
+
+    private EmployeePageDTO buildPage(
+            EmployeeRosterCache roster,
+            Predicate<EmployeeDTO> filter,
+            String cursor,
+            Integer offset,
+            int limit,
+            String fields) {
+        int maxLimit = appProperties.getPagination().getMaxLimit();
+        if (limit <= 0 || limit > maxLimit) {
+            throw new APIException(INVALID_REQUEST_PARAMETER, new Object[] {"limit", limit}, HttpStatus.BAD_REQUEST);
+        }
+        if (Objects.nonNull(offset) && (offset < 0 || Objects.nonNull(cursor))) {
+            throw new APIException(INVALID_REQUEST_PARAMETER, new Object[] {"offset", offset}, HttpStatus.BAD_REQUEST);
+        }
+        UUID after = parseCursor(cursor);
+        Set<String> projection = parseFields(fields);
+        int skip = Objects.nonNull(offset) ? offset : 0;
+
+        List<EmployeeDTO> matches = roster.scan(after, skip, limit + 1, filter);
+        boolean hasMore = matches.size() > limit;
+        List<EmployeeDTO> employees = matches.stream()
+                .limit(limit)
+                .map(employee -> project(employee, projection))
+                .collect(Collectors.toList());
+        UUID nextCursor = hasMore ? matches.get(limit - 1).getId() : null;
+        log.debug("Returning page of {} employees, more available: {}", employees.size(), hasMore);
+        return new EmployeePageDTO(employees, limit, offset, nextCursor, null);
+    }
+
+    private UUID parseCursor(String cursor) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+        UUID after = UUIDParser.parse(cursor);
+        if (Objects.isNull(after)) {
+            throw new APIException(INVALID_REQUEST_PARAMETER, new Object[] {"cursor", cursor}, HttpStatus.BAD_REQUEST);
+        }
+        return after;
+    }
+
+    private Set<String> parseFields(String fields) {
+        Set<String> projection = new HashSet<>();
+        if (Objects.isNull(fields) || fields.isBlank()) {
+            return projection;
+        }
+        for (String field : fields.split(",")) {
+            String trimmed = field.trim();
+            if (!PROJECTABLE_FIELDS.contains(trimmed)) {
+                throw new APIException(
+                        INVALID_REQUEST_PARAMETER, new Object[] {"fields", trimmed}, HttpStatus.BAD_REQUEST);
+            }
+            projection.add(trimmed);
+        }
+        return projection;
+    }
+
+    private EmployeeDTO project(EmployeeDTO employee, Set<String> projection) {
+        if (projection.isEmpty()) {
+            return employee;
+        }
+        return new EmployeeDTO(
+                projection.contains("id") ? employee.getId() : null,
+                projection.contains("employee_name") ? employee.getEmployeeName() : null,
+                projection.contains("employee_salary") ? employee.getEmployeeSalary() : null,
+                projection.contains("employee_age") ? employee.getEmployeeAge() : null,
+                projection.contains("employee_title") ? employee.getEmployeeTitle() : null,
+                projection.contains("employee_email") ? employee.getEmployeeEmail() : null);
+    }
+}
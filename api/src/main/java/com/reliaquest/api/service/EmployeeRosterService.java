@@ -0,0 +1,106 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.model.EmployeeListApiResponse;
+import com.reliaquest.api.repository.MockEmployeeRestClient;
+import com.reliaquest.api.trace.RequestTrace;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.dozer.DozerBeanMapper;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EmployeeRosterService {
+
+    private final MockEmployeeRestClient mockEmployeeRestClient;
+    private final DozerBeanMapper dozerBeanMapper;
+    private final EmployeeRosterCache employeeRosterCache;
+    private final AppProperties appProperties;
+    private final StaleRosterFallback staleRosterFallback;
+    private final TaskScheduler taskScheduler;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicBoolean backgroundRefresh = new AtomicBoolean();
+
+    /*
+     * Returns the roster, loading it from upstream first when nothing is loaded yet. Once a roster is loaded (from
+     * upstream or from a snapshot) callers are never held up behind upstream: a roster older than the configured ttl
+     * is served as it is while a single background refresh replaces it.
+     */
+    public EmployeeRosterCache ensureFresh() {
+        if (!employeeRosterCache.isStale(appProperties.getRoster().getTtl())) {
+            return employeeRosterCache;
+        }
+        if (employeeRosterCache.isLoaded()) {
+            refreshInBackground();
+            return employeeRosterCache;
+        }
+        refreshLock.lock();
+        try {
+            if (!employeeRosterCache.isLoaded()) {
+                log.debug("Roster not loaded yet, loading from upstream");
+                load();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+        return employeeRosterCache;
+    }
+
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            load();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!backgroundRefresh.compareAndSet(false, true)) {
+            log.debug("Roster refresh already in progress, serving stale roster");
+            return;
+        }
+        try {
+            taskScheduler.schedule(this::refreshStale, Instant.now());
+        } catch (TaskRejectedException ex) {
+            backgroundRefresh.set(false);
+            log.warn("Unable to schedule roster refresh, serving stale roster: {}", ex.getMessage());
+        }
+    }
+
+    private void refreshStale() {
+        try {
+            if (employeeRosterCache.isStale(appProperties.getRoster().getTtl())) {
+                log.debug("Roster cache is stale, refreshing from upstream");
+                refresh();
+            }
+        } catch (RuntimeException ex) {
+            if (staleRosterFallback.isBreakerEngaged(ex)) {
+                staleRosterFallback.recordServed("roster");
+            }
+            log.warn("Background roster refresh failed, serving stale roster: {}", ex.getMessage());
+        } finally {
+            backgroundRefresh.set(false);
+        }
+    }
+
+    private void load() {
+        EmployeeListApiResponse response = mockEmployeeRestClient.getAllEmployees();
+        List<EmployeeDTO> employees = RequestTrace.time("mapping", () -> response.getData().stream()
+                .map(employee -> dozerBeanMapper.map(employee, EmployeeDTO.class))
+                .collect(Collectors.toList()));
+        employeeRosterCache.replaceAll(employees);
+        log.debug("Retrieved {} employees", employees.size());
+    }
+}
@@ -10,6 +10,8 @@ public interface EmployeeService<Entity, Input> {
 
     Entity getEmployeeById(String id);
 
+    List<Entity> getEmployeesByIds(List<String> ids);
+
     Integer getHighestSalaryOfEmployees();
 
     List<String> getTopTenHighestEarningEmployeeNames();
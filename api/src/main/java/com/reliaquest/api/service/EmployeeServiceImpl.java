@@ -1,23 +1,26 @@
 package com.reliaquest.api.service;
 
 import static com.reliaquest.api.util.Constants.FAILED_TO_DELETE_RECORD;
+import static com.reliaquest.api.util.Constants.INVALID_REQUEST_PARAMETER;
 import static com.reliaquest.api.util.Constants.INVALID_UUID_FORMAT;
-import static com.reliaquest.api.util.Constants.MOCK_SERVICE_API_CIRCUIT_BREAKER;
-import static com.reliaquest.api.util.Constants.MOCK_SERVICE_API_RETRY;
 import static com.reliaquest.api.util.Constants.OBJECT_NOT_FOUND;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.AppProperties;
 import com.reliaquest.api.dto.EmployeeDTO;
 import com.reliaquest.api.dto.EmployeeDeleteRequest;
 import com.reliaquest.api.dto.EmployeeRequest;
 import com.reliaquest.api.errorhandlers.APIException;
+import com.reliaquest.api.index.SalaryRankIndex;
 import com.reliaquest.api.model.EmployeeApiResponse;
 import com.reliaquest.api.model.EmployeeDeleteApiResponse;
-import com.reliaquest.api.model.EmployeeListApiResponse;
 import com.reliaquest.api.repository.MockEmployeeRestClient;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
-import java.util.Comparator;
+import com.reliaquest.api.trace.RequestTrace;
+import com.reliaquest.api.util.UUIDParser;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -30,57 +33,82 @@ import org.springframework.web.client.HttpClientErrorException;
 @Service
 @Slf4j
 @AllArgsConstructor
-@Retry(name = MOCK_SERVICE_API_RETRY)
-@CircuitBreaker(name = MOCK_SERVICE_API_CIRCUIT_BREAKER)
 public class EmployeeServiceImpl implements EmployeeService<EmployeeDTO, EmployeeRequest> {
 
     private final MockEmployeeRestClient mockEmployeeRestClient;
     private final DozerBeanMapper dozerBeanMapper;
+    private final EmployeeRosterCache employeeRosterCache;
+    private final EmployeeRosterService employeeRosterService;
+    private final SalaryRankIndex salaryRankIndex;
+    private final ParallelRosterAggregator parallelRosterAggregator;
+    private final EmployeeBatchLoader employeeBatchLoader;
+    private final AppProperties appProperties;
 
     @Override
     public List<EmployeeDTO> getAllEmployees() {
-        EmployeeListApiResponse response = mockEmployeeRestClient.getAllEmployees();
-        List<EmployeeDTO> employees = mapEmployeeList(response);
+        List<EmployeeDTO> employees = new ArrayList<>(employeeRosterService.ensureFresh().getEmployees());
         log.debug("Retrieved {} employees", employees.size());
         return employees;
     }
 
     @Override
     public List<EmployeeDTO> getEmployeesByNameSearch(String searchString) {
-        List<EmployeeDTO> employees = getAllEmployees().stream()
-                .filter(employee -> employee.getEmployeeName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
+        String normalizedSearch = searchString.toLowerCase();
+        List<EmployeeDTO> roster = getAllEmployees();
+        List<EmployeeDTO> employees = RequestTrace.time(
+                "pipeline",
+                () -> parallelRosterAggregator.filter(
+                        roster, employee -> employee.getEmployeeName().toLowerCase().contains(normalizedSearch)));
         log.debug("Employees matching '{}': {}", searchString, employees.size());
         return employees;
     }
 
     @Override
     public EmployeeDTO getEmployeeById(String id) {
-        validateUUID(id);
+        UUID employeeId = parseUUID(id);
+        if (employeeBatchLoader.isEnabled()) {
+            return employeeBatchLoader
+                    .load(employeeId)
+                    .orElseThrow(() -> new APIException(OBJECT_NOT_FOUND, new Object[] {id}, HttpStatus.NOT_FOUND));
+        }
         try {
-            EmployeeApiResponse response = mockEmployeeRestClient.getEmployeeById(id);
+            EmployeeApiResponse response = mockEmployeeRestClient.getEmployeeById(employeeId);
             return mapEmployee(response, id);
         } catch (HttpClientErrorException.NotFound ex) {
-            log.warn("Employee with ID {} not found", id);
             throw new APIException(OBJECT_NOT_FOUND, new Object[] {id}, HttpStatus.NOT_FOUND);
         }
     }
 
+    @Override
+    public List<EmployeeDTO> getEmployeesByIds(List<String> ids) {
+        int maxIds = appProperties.getBatching().getMaxIds();
+        if (ids.isEmpty() || ids.size() > maxIds) {
+            throw new APIException(INVALID_REQUEST_PARAMETER, new Object[] {"ids", ids.size()}, HttpStatus.BAD_REQUEST);
+        }
+        List<UUID> uuids = ids.stream().map(this::parseUUID).collect(Collectors.toList());
+        Map<UUID, EmployeeDTO> found = employeeBatchLoader.loadAll(uuids);
+        List<EmployeeDTO> employees = uuids.stream()
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        log.debug("Found {} of {} requested employees", employees.size(), ids.size());
+        return employees;
+    }
+
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        return getAllEmployees().stream()
-                .mapToInt(EmployeeDTO::getEmployeeSalary)
-                .max()
+        List<EmployeeDTO> roster = getAllEmployees();
+        return RequestTrace.time("pipeline", () -> parallelRosterAggregator.max(roster, EmployeeDTO::getEmployeeSalary))
                 .orElse(0);
     }
 
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        List<String> topEmployees = getAllEmployees().stream()
-                .sorted(Comparator.comparingInt(EmployeeDTO::getEmployeeSalary).reversed())
-                .limit(10)
+        employeeRosterService.ensureFresh();
+        List<String> topEmployees = RequestTrace.time("pipeline", () -> salaryRankIndex.highest(0, 10).stream()
                 .map(EmployeeDTO::getEmployeeName)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
         log.debug("Top 10 highest earning employees retrieved");
         return topEmployees;
     }
@@ -89,19 +117,20 @@ public class EmployeeServiceImpl implements EmployeeService<EmployeeDTO, Employe
     public EmployeeDTO createEmployee(EmployeeRequest employeeRequest) {
         EmployeeApiResponse response = mockEmployeeRestClient.createEmployee(employeeRequest);
         EmployeeDTO createdEmployee = dozerBeanMapper.map(response.getData(), EmployeeDTO.class);
+        employeeRosterCache.put(createdEmployee);
         log.info("Employee created with ID: {}", createdEmployee.getId());
         return createdEmployee;
     }
 
     @Override
     public String deleteEmployeeById(String id) {
-        validateUUID(id);
         EmployeeDTO employee = getEmployeeById(id);
         boolean isDeleted = deleteEmployeeByName(employee.getEmployeeName());
         if (!isDeleted) {
             log.error("Failed to delete employee with ID: {}", id);
             throw new APIException(FAILED_TO_DELETE_RECORD, new Object[] {}, HttpStatus.INTERNAL_SERVER_ERROR);
         }
+        employeeRosterCache.remove(employee.getId());
         log.info("Employee deleted with ID: {}", id);
         return employee.getEmployeeName();
     }
@@ -112,26 +141,18 @@ public class EmployeeServiceImpl implements EmployeeService<EmployeeDTO, Employe
         return Boolean.TRUE.equals(response.getData());
     }
 
-    private void validateUUID(String id) {
-        try {
-            UUID.fromString(id);
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid UUID format: {}", id);
+    private UUID parseUUID(String id) {
+        UUID uuid = UUIDParser.parse(id);
+        if (Objects.isNull(uuid)) {
             throw new APIException(INVALID_UUID_FORMAT, new Object[] {id}, HttpStatus.BAD_REQUEST);
         }
-    }
-
-    private List<EmployeeDTO> mapEmployeeList(EmployeeListApiResponse response) {
-        return response.getData().stream()
-                .map(employee -> dozerBeanMapper.map(employee, EmployeeDTO.class))
-                .collect(Collectors.toList());
+        return uuid;
     }
 
     private EmployeeDTO mapEmployee(EmployeeApiResponse response, String id) {
         if (response == null || response.getData() == null) {
-            log.warn("Employee with given ID {} not found", id);
             throw new APIException(OBJECT_NOT_FOUND, new Object[] {id}, HttpStatus.NOT_FOUND);
         }
-        return dozerBeanMapper.map(response.getData(), EmployeeDTO.class);
+        return RequestTrace.time("mapping", () -> dozerBeanMapper.map(response.getData(), EmployeeDTO.class));
     }
 }
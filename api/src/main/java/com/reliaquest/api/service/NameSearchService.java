@@ -0,0 +1,11 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.NameMatchDTO;
+import java.util.List;
+
+public interface NameSearchService {
+
+    List<NameMatchDTO> autocomplete(String prefix, int limit);
+
+    List<NameMatchDTO> search(String query, Integer maxDistance, int limit);
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.util.Constants.INVALID_REQUEST_PARAMETER;
+
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.dto.NameMatchDTO;
+import com.reliaquest.api.errorhandlers.APIException;
+import com.reliaquest.api.index.NameSearchIndex;
+import java.util.List;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@AllArgsConstructor
+public class NameSearchServiceImpl implements NameSearchService {
+
+    private final EmployeeRosterService employeeRosterService;
+    private final NameSearchIndex nameSearchIndex;
+    private final AppProperties appProperties;
+
+    @Override
+    public List<NameMatchDTO> autocomplete(String prefix, int limit) {
+        validateQuery("prefix", prefix);
+        validateLimit(limit);
+        employeeRosterService.ensureFresh();
+        List<NameMatchDTO> matches = nameSearchIndex.autocomplete(prefix, limit);
+        log.debug("Autocomplete '{}' returned {} matches", prefix, matches.size());
+        return matches;
+    }
+
+    @Override
+    public List<NameMatchDTO> search(String query, Integer maxDistance, int limit) {
+        validateQuery("query", query);
+        validateLimit(limit);
+        int maxEditDistance = appProperties.getNameSearch().getMaxEditDistance();
+        if (Objects.nonNull(maxDistance) && (maxDistance < 0 || maxDistance > maxEditDistance)) {
+            throw new APIException(
+                    INVALID_REQUEST_PARAMETER, new Object[] {"maxDistance", maxDistance}, HttpStatus.BAD_REQUEST);
+        }
+        int distance = Objects.nonNull(maxDistance) ? maxDistance : defaultDistance(query, maxEditDistance);
+        employeeRosterService.ensureFresh();
+        List<NameMatchDTO> matches = nameSearchIndex.search(query, distance, limit);
+        log.debug("Name search '{}' within distance {} returned {} matches", query, distance, matches.size());
+        return matches;
+    }
+
+    private int defaultDistance(String query, int maxEditDistance) {
+        return Math.min(NameSearchIndex.normalize(query).length() <= 4 ? 1 : 2, maxEditDistance);
+    }
+
+    private void validateQuery(String name, String value) {
+        if (Objects.isNull(value) || value.isBlank()) {
+            throw new APIException(INVALID_REQUEST_PARAMETER, new Object[] {name, value}, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private void validateLimit(int limit) {
+        if (limit <= 0 || limit > appProperties.getNameSearch().getMaxLimit()) {
+            throw new APIException(INVALID_REQUEST_PARAMETER, new Object[] {"limit", limit}, HttpStatus.BAD_REQUEST);
+        }
+    }
+}
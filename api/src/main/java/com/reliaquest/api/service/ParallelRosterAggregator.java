@@ -0,0 +1,141 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.AppProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/*
+ * Roster aggregations that fan out on a dedicated fork-join pool once the input reaches the configured threshold.
+ * Smaller inputs stay on the calling thread, where splitting costs more than it saves.
+ */
+@Component
+public class ParallelRosterAggregator {
+
+    private static final int MIN_LEAF_SIZE = 4_096;
+
+    private final ForkJoinPool pool;
+    private final boolean parallelEnabled;
+    private final int parallelThreshold;
+
+    @Autowired
+    public ParallelRosterAggregator(
+            @Qualifier("rosterAggregationPool") ForkJoinPool pool, AppProperties appProperties) {
+        this(
+                pool,
+                appProperties.getAggregation().isParallelEnabled(),
+                appProperties.getAggregation().getParallelThreshold());
+    }
+
+    public ParallelRosterAggregator(ForkJoinPool pool, boolean parallelEnabled, int parallelThreshold) {
+        this.pool = pool;
+        this.parallelEnabled = parallelEnabled;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public <T> List<T> filter(List<T> items, Predicate<? super T> predicate) {
+        if (!isParallel(items)) {
+            return items.stream().filter(predicate).collect(Collectors.toList());
+        }
+        return pool.invoke(new FilterTask<>(items, predicate, 0, items.size(), leafSize(items.size())));
+    }
+
+    public <T> OptionalInt max(List<T> items, ToIntFunction<? super T> mapper) {
+        if (!isParallel(items)) {
+            return items.stream().mapToInt(mapper).max();
+        }
+        return pool.invoke(new MaxTask<>(items, mapper, 0, items.size(), leafSize(items.size())));
+    }
+
+    private boolean isParallel(List<?> items) {
+        return parallelEnabled && items.size() >= parallelThreshold;
+    }
+
+    private int leafSize(int size) {
+        return Math.max(MIN_LEAF_SIZE, size / (pool.getParallelism() * 4));
+    }
+
+    private static final class FilterTask<T> extends RecursiveTask<List<T>> {
+        private final List<T> items;
+        private final Predicate<? super T> predicate;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        private FilterTask(List<T> items, Predicate<? super T> predicate, int from, int to, int leafSize) {
+            this.items = items;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from <= leafSize) {
+                List<T> matches = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    T item = items.get(i);
+                    if (predicate.test(item)) {
+                        matches.add(item);
+                    }
+                }
+                return matches;
+            }
+            int middle = (from + to) >>> 1;
+            FilterTask<T> left = new FilterTask<>(items, predicate, from, middle, leafSize);
+            left.fork();
+            List<T> right = new FilterTask<>(items, predicate, middle, to, leafSize).compute();
+            List<T> matches = left.join();
+            matches.addAll(right);
+            return matches;
+        }
+    }
+
+    private static final class MaxTask<T> extends RecursiveTask<OptionalInt> {
+        private final List<T> items;
+        private final ToIntFunction<? super T> mapper;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        private MaxTask(List<T> items, ToIntFunction<? super T> mapper, int from, int to, int leafSize) {
+            this.items = items;
+            this.mapper = mapper;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected OptionalInt compute() {
+            if (to - from <= leafSize) {
+                if (from == to) {
+                    return OptionalInt.empty();
+                }
+                int max = Integer.MIN_VALUE;
+                for (int i = from; i < to; i++) {
+                    max = Math.max(max, mapper.applyAsInt(items.get(i)));
+                }
+                return OptionalInt.of(max);
+            }
+            int middle = (from + to) >>> 1;
+            MaxTask<T> left = new MaxTask<>(items, mapper, from, middle, leafSize);
+            left.fork();
+            OptionalInt right = new MaxTask<>(items, mapper, middle, to, leafSize).compute();
+            OptionalInt leftMax = left.join();
+            if (leftMax.isEmpty()) {
+                return right;
+            }
+            return right.isEmpty() ? leftMax : OptionalInt.of(Math.max(leftMax.getAsInt(), right.getAsInt()));
+        }
+    }
+}
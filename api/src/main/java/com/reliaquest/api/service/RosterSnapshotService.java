@@ -0,0 +1,105 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshotStore;
+import com.reliaquest.api.config.AppProperties;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/*
+ * Keeps a snapshot of the roster on local disk. On startup the snapshot is restored as a stale warm cache once the
+ * singletons are created, before the web server opens its port, and a background refresh validates it against the
+ * upstream once the application is ready; afterwards the roster is persisted whenever its version moved.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "app.snapshot", name = "enabled", havingValue = "true")
+public class RosterSnapshotService implements SmartInitializingSingleton {
+
+    private final EmployeeRosterCache employeeRosterCache;
+    private final EmployeeRosterService employeeRosterService;
+    private final RosterSnapshotStore rosterSnapshotStore;
+    private final TaskScheduler taskScheduler;
+    private final Path snapshotPath;
+    private volatile long persistedVersion = -1;
+
+    public RosterSnapshotService(
+            EmployeeRosterCache employeeRosterCache,
+            EmployeeRosterService employeeRosterService,
+            RosterSnapshotStore rosterSnapshotStore,
+            TaskScheduler taskScheduler,
+            AppProperties appProperties) {
+        this.employeeRosterCache = employeeRosterCache;
+        this.employeeRosterService = employeeRosterService;
+        this.rosterSnapshotStore = rosterSnapshotStore;
+        this.taskScheduler = taskScheduler;
+        this.snapshotPath = Path.of(appProperties.getSnapshot().getPath());
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        restore();
+    }
+
+    public void restore() {
+        rosterSnapshotStore.read(snapshotPath).ifPresent(snapshot -> {
+            if (!employeeRosterCache.isLoaded()) {
+                employeeRosterCache.restore(snapshot);
+                persistedVersion = employeeRosterCache.getVersion();
+                log.info(
+                        "Restored {} employees from roster snapshot taken at {}",
+                        snapshot.getEmployees().size(),
+                        snapshot.getRefreshedAt());
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validateInBackground() {
+        taskScheduler.schedule(this::validate, Instant.now());
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.snapshot.interval:60s}",
+            fixedDelayString = "${app.snapshot.interval:60s}")
+    public void persist() {
+        long version = employeeRosterCache.getVersion();
+        if (!employeeRosterCache.isLoaded() || version == persistedVersion) {
+            return;
+        }
+        try {
+            rosterSnapshotStore.write(
+                    snapshotPath,
+                    new ArrayList<>(employeeRosterCache.getEmployees()),
+                    employeeRosterCache.getLastRefreshed().orElseGet(Instant::now));
+            persistedVersion = version;
+        } catch (IOException e) {
+            log.warn("Unable to persist roster snapshot to {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void persistOnShutdown() {
+        persist();
+    }
+
+    private void validate() {
+        try {
+            employeeRosterService.refresh();
+            log.info("Roster validated against upstream, {} employees", employeeRosterCache.size());
+        } catch (RuntimeException e) {
+            log.warn("Background roster refresh failed, serving snapshot until the next refresh: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.SalaryGroupStatsDTO;
+import com.reliaquest.api.dto.SalaryHistogramDTO;
+import com.reliaquest.api.dto.SalaryPercentilesDTO;
+import com.reliaquest.api.dto.SalaryRankDTO;
+import java.util.List;
+
+public interface SalaryAnalyticsService {
+
+    SalaryPercentilesDTO getSalaryPercentiles(List<Double> percentiles);
+
+    SalaryHistogramDTO getSalaryHistogram(int bucketWidth);
+
+    List<SalaryGroupStatsDTO> getSalaryStatsByTitle();
+
+    List<SalaryGroupStatsDTO> getSalaryStatsByAgeBand();
+
+    List<EmployeeDTO> getHighestEarningEmployees(int k);
+
+    List<EmployeeDTO> getLowestEarningEmployees(int k);
+
+    SalaryRankDTO getSalaryRank(String id);
+}
@@ -0,0 +1,113 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.util.Constants.INVALID_REQUEST_PARAMETER;
+import static com.reliaquest.api.util.Constants.INVALID_UUID_FORMAT;
+import static com.reliaquest.api.util.Constants.OBJECT_NOT_FOUND;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.SalaryGroupStatsDTO;
+import com.reliaquest.api.dto.SalaryHistogramDTO;
+import com.reliaquest.api.dto.SalaryPercentilesDTO;
+import com.reliaquest.api.dto.SalaryRankDTO;
+import com.reliaquest.api.errorhandlers.APIException;
+import com.reliaquest.api.index.SalaryRankIndex;
+import com.reliaquest.api.index.SalaryStatsIndex;
+import com.reliaquest.api.util.UUIDParser;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+@Service
+@AllArgsConstructor
+public class SalaryAnalyticsServiceImpl implements SalaryAnalyticsService {
+
+    private final EmployeeRosterService employeeRosterService;
+    private final SalaryStatsIndex salaryStatsIndex;
+    private final SalaryRankIndex salaryRankIndex;
+
+    @Override
+    public SalaryPercentilesDTO getSalaryPercentiles(List<Double> percentiles) {
+        if (percentiles == null || percentiles.isEmpty()) {
+            throw new APIException(INVALID_REQUEST_PARAMETER, new Object[] {"p", percentiles}, HttpStatus.BAD_REQUEST);
+        }
+        for (Double percentile : percentiles) {
+            if (percentile == null || percentile < 0 || percentile > 100) {
+                throw new APIException(
+                        INVALID_REQUEST_PARAMETER, new Object[] {"p", percentile}, HttpStatus.BAD_REQUEST);
+            }
+        }
+        employeeRosterService.ensureFresh();
+        return salaryStatsIndex.percentiles(percentiles);
+    }
+
+    @Override
+    public SalaryHistogramDTO getSalaryHistogram(int bucketWidth) {
+        if (bucketWidth <= 0) {
+            throw new APIException(
+                    INVALID_REQUEST_PARAMETER, new Object[] {"bucketWidth", bucketWidth}, HttpStatus.BAD_REQUEST);
+        }
+        employeeRosterService.ensureFresh();
+        return salaryStatsIndex.histogram(bucketWidth);
+    }
+
+    @Override
+    public List<SalaryGroupStatsDTO> getSalaryStatsByTitle() {
+        employeeRosterService.ensureFresh();
+        return salaryStatsIndex.statsByTitle();
+    }
+
+    @Override
+    public List<SalaryGroupStatsDTO> getSalaryStatsByAgeBand() {
+        employeeRosterService.ensureFresh();
+        return salaryStatsIndex.statsByAgeBand();
+    }
+
+    @Override
+    public List<EmployeeDTO> getHighestEarningEmployees(int k) {
+        validateK(k);
+        employeeRosterService.ensureFresh();
+        return salaryRankIndex.highest(0, k);
+    }
+
+    @Override
+    public List<EmployeeDTO> getLowestEarningEmployees(int k) {
+        validateK(k);
+        employeeRosterService.ensureFresh();
+        return salaryRankIndex.lowest(0, k);
+    }
+
+    @Override
+    public SalaryRankDTO getSalaryRank(String id) {
+        UUID uuid = parseUUID(id);
+        EmployeeRosterCache roster = employeeRosterService.ensureFresh();
+        EmployeeDTO employee = roster.get(uuid)
+                .orElseThrow(() -> new APIException(OBJECT_NOT_FOUND, new Object[] {id}, HttpStatus.NOT_FOUND));
+        int rank = salaryRankIndex
+                .rankOf(employee)
+                .orElseThrow(() -> new APIException(OBJECT_NOT_FOUND, new Object[] {id}, HttpStatus.NOT_FOUND));
+        return new SalaryRankDTO(
+                employee.getId(),
+                employee.getEmployeeName(),
+                employee.getEmployeeSalary(),
+                rank,
+                salaryRankIndex.size());
+    }
+
+    private void validateK(int k) {
+        if (k <= 0) {
+            throw new APIException(INVALID_REQUEST_PARAMETER, new Object[] {"k", k}, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private UUID parseUUID(String id) {
+        UUID uuid = UUIDParser.parse(id);
+        if (Objects.isNull(uuid)) {
+            throw new APIException(INVALID_UUID_FORMAT, new Object[] {id}, HttpStatus.BAD_REQUEST);
+        }
+        return uuid;
+    }
+}
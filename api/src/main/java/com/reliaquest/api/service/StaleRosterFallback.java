@@ -0,0 +1,127 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.util.Constants.MOCK_SERVICE_API_CIRCUIT_BREAKER;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.trace.RequestTrace;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/*
+ * Serves read endpoints from the last known roster while mockServiceApiCircuitBreaker is open or half-open, or while
+ * the read bulkhead is full. Stale responses carry an Age header with the roster's age in seconds and a 110 "Response
+ * is Stale" warning.
+ */
+@Component
+@Slf4j
+public class StaleRosterFallback {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    private final EmployeeRosterCache employeeRosterCache;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public StaleRosterFallback(
+            EmployeeRosterCache employeeRosterCache,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            MeterRegistry meterRegistry) {
+        this(
+                employeeRosterCache,
+                circuitBreakerRegistry.circuitBreaker(MOCK_SERVICE_API_CIRCUIT_BREAKER),
+                meterRegistry);
+    }
+
+    public StaleRosterFallback(
+            EmployeeRosterCache employeeRosterCache, CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        this.employeeRosterCache = employeeRosterCache;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> ResponseEntity<T> serve(
+            String endpoint, Supplier<T> live, Function<EmployeeRosterCache, Optional<T>> stale) {
+        try {
+            return ResponseEntity.ok(RequestTrace.time("service", live));
+        } catch (RuntimeException ex) {
+            if (!isBreakerEngaged(ex) || !employeeRosterCache.isLoaded()) {
+                throw ex;
+            }
+            Optional<T> body = stale.apply(employeeRosterCache);
+            if (body.isEmpty()) {
+                counter("employee.api.fallback.unavailable", endpoint).increment();
+                throw ex;
+            }
+            Duration age = recordServed(endpoint);
+            log.warn("Serving stale {} ({} s old): {}", endpoint, age.toSeconds(), ex.getMessage());
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.AGE, String.valueOf(age.toSeconds()))
+                    .header(HttpHeaders.WARNING, STALE_WARNING)
+                    .body(body.get());
+        }
+    }
+
+    /*
+     * Calls the breaker or bulkhead turned away, and upstream being unreachable, throttling or failing (I/O errors, 429
+     * and 5xx) while the breaker is not closed. Anything else, client errors and bugs included, is answered as it is.
+     */
+    public boolean isBreakerEngaged(RuntimeException ex) {
+        if (ex instanceof CallNotPermittedException || ex instanceof BulkheadFullException) {
+            return true;
+        }
+        if (!isUpstreamUnavailable(ex)) {
+            return false;
+        }
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state == CircuitBreaker.State.OPEN
+                || state == CircuitBreaker.State.HALF_OPEN
+                || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    private static boolean isUpstreamUnavailable(RuntimeException ex) {
+        if (ex instanceof ResourceAccessException) {
+            return true;
+        }
+        return ex instanceof HttpStatusCodeException statusCodeException
+                && (statusCodeException.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                        || statusCodeException.getStatusCode().is5xxServerError());
+    }
+
+    public Duration recordServed(String endpoint) {
+        Duration age = employeeRosterCache
+                .getLastRefreshed()
+                .map(refreshed -> Duration.between(refreshed, Instant.now()))
+                .orElse(Duration.ZERO);
+        counter("employee.api.fallback.served", endpoint).increment();
+        DistributionSummary.builder("employee.api.fallback.staleness")
+                .description("Age of the roster served by stale fallbacks")
+                .baseUnit("seconds")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(age.toMillis() / 1000.0);
+        return age;
+    }
+
+    private Counter counter(String name, String endpoint) {
+        return Counter.builder(name).tag("endpoint", endpoint).register(meterRegistry);
+    }
+}
@@ -0,0 +1,150 @@
+package com.reliaquest.api.trace;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.Value;
+
+/*
+ * Stage timings of the inbound request being served by the current thread. Stages are recorded with their offset from
+ * the start of the request, so nested stages (an upstream attempt within the service call) can be told apart. Work
+ * handed to other threads on behalf of the request is traced by wrapping it with propagate. On threads without a
+ * trace (background refreshes) timing is a no-op.
+ */
+public final class RequestTrace {
+
+    public static final String HEADER = "X-Trace-Id";
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    private static final int MAX_STAGES = 256;
+
+    private final String traceId;
+    private final String method;
+    private final String path;
+    private final Instant startedAt = Instant.now();
+    private final long startedNanos = System.nanoTime();
+    private final List<Stage> stages = new ArrayList<>();
+    private volatile long durationNanos = -1;
+    private volatile int status;
+
+    @Value
+    public static class Stage {
+        String name;
+        String thread;
+        long offsetMicros;
+        long durationMicros;
+    }
+
+    private RequestTrace(String traceId, String method, String path) {
+        this.traceId = traceId;
+        this.method = method;
+        this.path = path;
+    }
+
+    public static RequestTrace start(String traceId, String method, String path) {
+        RequestTrace trace = new RequestTrace(traceId, method, path);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static <T> T time(String stage, Supplier<T> work) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) {
+            return work.get();
+        }
+        long started = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            trace.record(stage, started);
+        }
+    }
+
+    /* Records a stage of the current request that started at the given System.nanoTime and ends now. */
+    public static void recordSince(String stage, long startedNanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.record(stage, startedNanos);
+        }
+    }
+
+    /* Runs the work with the calling thread's trace, wherever it is executed. */
+    public static <T> Supplier<T> propagate(Supplier<T> work) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) {
+            return work;
+        }
+        return () -> {
+            RequestTrace previous = CURRENT.get();
+            CURRENT.set(trace);
+            try {
+                return work.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    private void record(String stage, long started) {
+        long ended = System.nanoTime();
+        Stage recorded = new Stage(
+                stage,
+                Thread.currentThread().getName(),
+                TimeUnit.NANOSECONDS.toMicros(started - startedNanos),
+                TimeUnit.NANOSECONDS.toMicros(ended - started));
+        synchronized (stages) {
+            if (stages.size() < MAX_STAGES) {
+                stages.add(recorded);
+            }
+        }
+    }
+
+    public void finish(int status) {
+        this.status = status;
+        this.durationNanos = System.nanoTime() - startedNanos;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getDurationMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(durationNanos);
+    }
+
+    public List<Stage> getStages() {
+        synchronized (stages) {
+            return List.copyOf(stages);
+        }
+    }
+}
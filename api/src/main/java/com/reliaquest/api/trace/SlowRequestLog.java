@@ -0,0 +1,50 @@
+package com.reliaquest.api.trace;
+
+import com.reliaquest.api.config.AppProperties;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/*
+ * The most recent finished request traces, in a fixed size ring so that recording costs one array store. The slowest
+ * of them are picked out when asked for, which is rare compared to recording.
+ */
+@Component
+public class SlowRequestLog {
+
+    private final AtomicReferenceArray<RequestTrace> traces;
+    private final AtomicLong recorded = new AtomicLong();
+
+    @Autowired
+    public SlowRequestLog(AppProperties appProperties) {
+        this(appProperties.getTracing().getRetained());
+    }
+
+    public SlowRequestLog(int retained) {
+        this.traces = new AtomicReferenceArray<>(Math.max(1, retained));
+    }
+
+    public void record(RequestTrace trace) {
+        traces.set((int) (recorded.getAndIncrement() % traces.length()), trace);
+    }
+
+    public List<RequestTrace> slowest(int limit) {
+        List<RequestTrace> retained = new ArrayList<>(traces.length());
+        for (int i = 0; i < traces.length(); i++) {
+            RequestTrace trace = traces.get(i);
+            if (Objects.nonNull(trace)) {
+                retained.add(trace);
+            }
+        }
+        return retained.stream()
+                .sorted(Comparator.comparingLong(RequestTrace::getDurationMicros).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.trace;
+
+import com.reliaquest.api.config.AppProperties;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/* Actuator endpoint (/manage/slowrequests) listing the slowest recent requests with their stage breakdown. */
+@Component
+@Endpoint(id = "slowrequests")
+@RequiredArgsConstructor
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestLog slowRequestLog;
+    private final AppProperties appProperties;
+
+    @ReadOperation
+    public List<RequestTrace> slowest(@Nullable Integer limit) {
+        return slowRequestLog.slowest(
+                Objects.nonNull(limit) ? limit : appProperties.getTracing().getSlowest());
+    }
+}
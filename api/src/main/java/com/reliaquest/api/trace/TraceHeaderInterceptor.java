@@ -0,0 +1,33 @@
+package com.reliaquest.api.trace;
+
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+
+/*
+ * Passes the trace id on to the mock server and times the exchange up to the response headers as upstream.exchange.
+ * Reading and parsing the body happens after this returns, so it is the rest of the enclosing upstream.attempt.
+ */
+public class TraceHeaderInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    @NonNull
+    public ClientHttpResponse intercept(
+            @NonNull HttpRequest request, @NonNull byte[] body, @NonNull ClientHttpRequestExecution execution)
+            throws IOException {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return execution.execute(request, body);
+        }
+        request.getHeaders().set(RequestTrace.HEADER, trace.getTraceId());
+        long started = System.nanoTime();
+        try {
+            return execution.execute(request, body);
+        } finally {
+            RequestTrace.recordSince("upstream.exchange", started);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.trace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/* JSON converter of the api's responses that times response serialization as a stage of the request trace. */
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(
+            @NonNull Object object, @Nullable Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long started = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTrace.recordSince("serialization", started);
+        }
+    }
+}
@@ -24,4 +24,60 @@ public class ApiDescriptions {
 
     public static final String DELETE_EMPLOYEE_SUMMARY = "Delete employee by ID";
     public static final String DELETE_EMPLOYEE_DESC = "Delete an employee by their unique ID.";
+
+    public static final String GET_SALARY_PERCENTILES_SUMMARY = "Get salary percentiles";
+    public static final String GET_SALARY_PERCENTILES_DESC =
+            "Fetch salary percentiles (p50, p90, p99 by default) from the incrementally maintained salary sketch.";
+
+    public static final String GET_SALARY_HISTOGRAM_SUMMARY = "Get salary histogram";
+    public static final String GET_SALARY_HISTOGRAM_DESC = "Fetch employee counts per fixed-width salary bucket.";
+
+    public static final String GET_SALARY_BY_TITLE_SUMMARY = "Get salary statistics by title";
+    public static final String GET_SALARY_BY_TITLE_DESC = "Fetch average and median salary per employee title.";
+
+    public static final String GET_SALARY_BY_AGE_BAND_SUMMARY = "Get salary statistics by age band";
+    public static final String GET_SALARY_BY_AGE_BAND_DESC = "Fetch average and median salary per employee age band.";
+
+    public static final String GET_HIGHEST_EARNERS_SUMMARY = "Get top K highest earning employees";
+    public static final String GET_HIGHEST_EARNERS_DESC =
+            "Fetch the K highest earning employees from the salary order-statistics index.";
+
+    public static final String GET_LOWEST_EARNERS_SUMMARY = "Get bottom K lowest earning employees";
+    public static final String GET_LOWEST_EARNERS_DESC =
+            "Fetch the K lowest earning employees from the salary order-statistics index.";
+
+    public static final String GET_SALARY_RANK_SUMMARY = "Get salary rank of an employee";
+    public static final String GET_SALARY_RANK_DESC =
+            "Fetch the rank of an employee by salary, where rank 1 is the highest salary.";
+
+    public static final String AUTOCOMPLETE_NAMES_SUMMARY = "Autocomplete employee names";
+    public static final String AUTOCOMPLETE_NAMES_DESC =
+            "Fetch employees whose full name or any name token starts with the given prefix.";
+
+    public static final String FUZZY_SEARCH_NAMES_SUMMARY = "Search employee names with typo tolerance";
+    public static final String FUZZY_SEARCH_NAMES_DESC =
+            "Fetch employees ranked by exact, prefix and edit-distance matches on their name.";
+
+    public static final String GET_EMPLOYEE_PAGE_SUMMARY = "Get a page of employees";
+    public static final String GET_EMPLOYEE_PAGE_DESC =
+            "Fetch employees ordered by ID, by cursor or offset, optionally restricted to selected fields.";
+
+    public static final String SEARCH_EMPLOYEE_PAGE_SUMMARY = "Search a page of employees by name";
+    public static final String SEARCH_EMPLOYEE_PAGE_DESC =
+            "Fetch employees whose name contains the search string, by cursor or offset, optionally restricted to"
+                    + " selected fields.";
+
+    public static final String GET_EMPLOYEES_BY_IDS_SUMMARY = "Get several employees by ID";
+    public static final String GET_EMPLOYEES_BY_IDS_DESC =
+            "Fetch the employees with the given IDs in one upstream lookup, in request order. Unknown IDs are left"
+                    + " out.";
+
+    public static final String SUBMIT_EMPLOYEE_CREATION_SUMMARY = "Queue an employee creation";
+    public static final String SUBMIT_EMPLOYEE_CREATION_DESC =
+            "Validate the employee and queue it for creation upstream, returning a tracking ID straight away."
+                    + " With ack=durable the response waits until the request is journaled to disk.";
+
+    public static final String GET_EMPLOYEE_CREATION_SUMMARY = "Get the status of a queued employee creation";
+    public static final String GET_EMPLOYEE_CREATION_DESC =
+            "Fetch the status of a queued creation by tracking ID, with the created employee once it is written.";
 }
@@ -7,9 +7,14 @@ public class Constants {
     public static final String APPLICATION_JSON = "application/json";
     public static final String API_V_1_EMPLOYEE = "/api/v1/employee";
     public static final String SLASH = "/";
+    public static final String BATCH = "/batch";
 
     public static final String MOCK_SERVICE_API_RETRY = "mockServiceApiRetry";
     public static final String MOCK_SERVICE_API_CIRCUIT_BREAKER = "mockServiceApiCircuitBreaker";
+    public static final String MOCK_SERVICE_API_WRITE_CIRCUIT_BREAKER = "mockServiceApiWriteCircuitBreaker";
+    public static final String MOCK_SERVICE_API_READ_BULKHEAD = "mockServiceApiReadBulkhead";
+    public static final String MOCK_SERVICE_API_WRITE_BULKHEAD = "mockServiceApiWriteBulkhead";
+    public static final String MOCK_SERVICE_API_WRITE_RATE_LIMITER = "mockServiceApiWriteRateLimiter";
 
     public static final String INTERNAL_SERVER_ERROR = "internal.server.error";
     public static final String HTTP_ERROR = "http.error";
@@ -17,7 +22,10 @@ public class Constants {
     public static final String INVALID_REQUEST = "invalid.request";
     public static final String BAD_REQUEST = "bad.request";
     public static final String CIRCUIT_BREAKER_OPEN = "circuit.breaker.open";
+    public static final String BULKHEAD_FULL = "bulkhead.full";
+    public static final String ASYNC_QUEUE_FULL = "async.queue.full";
     public static final String OBJECT_NOT_FOUND = "object.not.found";
     public static final String FAILED_TO_DELETE_RECORD = "failed.to.delete.record";
     public static final String INVALID_UUID_FORMAT = "invalid.uuid.format";
+    public static final String INVALID_REQUEST_PARAMETER = "invalid.request.parameter";
 }
@@ -0,0 +1,80 @@
+package com.reliaquest.api.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.NonNull;
+
+/*
+ * Asks for gzip and decodes gzip responses, for request factories whose client does not (the JDK HttpClient used for
+ * HTTP/2). Apache HttpClient negotiates and decodes compression on its own.
+ */
+public class GzipDecodingInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String GZIP = "gzip";
+
+    @Override
+    @NonNull
+    public ClientHttpResponse intercept(
+            @NonNull HttpRequest request, @NonNull byte[] body, @NonNull ClientHttpRequestExecution execution)
+            throws IOException {
+        request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+        ClientHttpResponse response = execution.execute(request, body);
+        String contentEncoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        return GZIP.equalsIgnoreCase(contentEncoding) ? new GzipDecodedResponse(response) : response;
+    }
+
+    private static class GzipDecodedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse response;
+        private final HttpHeaders headers;
+        private InputStream body;
+
+        GzipDecodedResponse(ClientHttpResponse response) {
+            this.response = response;
+            this.headers = new HttpHeaders();
+            this.headers.putAll(response.getHeaders());
+            this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+            this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        @NonNull
+        public HttpStatusCode getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        @NonNull
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        @NonNull
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        @NonNull
+        public InputStream getBody() throws IOException {
+            if (Objects.isNull(body)) {
+                body = new GZIPInputStream(response.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/*
+ * Rate limits repeated log lines per key: at most maxPerInterval lines (the default or one given per call) are let
+ * through per key and interval, the rest are counted and reported with the next line that is let through.
+ */
+public class LogSampler {
+
+    private static final int MAX_KEYS = 1_024;
+
+    private final long intervalNanos;
+    private final int maxPerInterval;
+    private final LongSupplier nanoClock;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LogSampler(Duration interval, int maxPerInterval) {
+        this(interval, maxPerInterval, System::nanoTime);
+    }
+
+    public LogSampler(Duration interval, int maxPerInterval, LongSupplier nanoClock) {
+        this.intervalNanos = interval.toNanos();
+        this.maxPerInterval = maxPerInterval;
+        this.nanoClock = nanoClock;
+    }
+
+    /* The number of lines suppressed for the key since the last one let through, or -1 to suppress this one. */
+    public long sample(String key) {
+        return sample(key, maxPerInterval);
+    }
+
+    public long sample(String key, int maxPerInterval) {
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= MAX_KEYS) {
+                windows.clear();
+            }
+            window = windows.computeIfAbsent(key, k -> new Window());
+        }
+        return window.sample(nanoClock.getAsLong(), maxPerInterval);
+    }
+
+    private class Window {
+        private long startedAt = Long.MIN_VALUE;
+        private int logged;
+        private long suppressed;
+
+        synchronized long sample(long now, int maxPerInterval) {
+            if (startedAt == Long.MIN_VALUE || now - startedAt >= intervalNanos) {
+                startedAt = now;
+                logged = 0;
+            }
+            if (logged >= maxPerInterval) {
+                suppressed++;
+                return -1;
+            }
+            logged++;
+            long reported = suppressed;
+            suppressed = 0;
+            return reported;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.config.AppProperties;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/*
+ * Decides whether the success log line of a request is written. Each endpoint logs at most max-per-interval requests
+ * per sample-interval, unless app.request-log.endpoints overrides its limit; a negative limit logs every request and
+ * zero none. Failures are logged by the error handler and are not sampled here.
+ */
+@Component
+public class SuccessLogSampler {
+
+    private final LogSampler logSampler;
+    private final int maxPerInterval;
+    private final Map<String, Integer> endpoints;
+
+    @Autowired
+    public SuccessLogSampler(AppProperties appProperties) {
+        this(appProperties.getRequestLog());
+    }
+
+    public SuccessLogSampler(AppProperties.RequestLog requestLog) {
+        this.logSampler = new LogSampler(requestLog.getSampleInterval(), requestLog.getMaxPerInterval());
+        this.maxPerInterval = requestLog.getMaxPerInterval();
+        this.endpoints = Map.copyOf(requestLog.getEndpoints());
+    }
+
+    public boolean shouldLog(String endpoint) {
+        int limit = endpoints.getOrDefault(endpoint, maxPerInterval);
+        if (limit < 0) {
+            return true;
+        }
+        return limit > 0 && logSampler.sample(endpoint, limit) >= 0;
+    }
+}
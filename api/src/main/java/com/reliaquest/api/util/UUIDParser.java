@@ -0,0 +1,65 @@
+package com.reliaquest.api.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/*
+ * Parses the canonical 36 character UUID form (8-4-4-4-12 hex digits) without throwing: invalid input yields null
+ * instead of an IllegalArgumentException, whose stack trace costs far more than the parse itself when clients send junk
+ * ids. Unlike UUID.fromString, shortened forms such as "1-2-3-4-5" are rejected.
+ */
+public final class UUIDParser {
+
+    private static final int LENGTH = 36;
+    private static final byte[] HEX_DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(HEX_DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_DIGITS['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_DIGITS['a' + i] = (byte) (10 + i);
+            HEX_DIGITS['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private UUIDParser() {}
+
+    /* The parsed UUID, or null when the value is not a canonical UUID. */
+    public static UUID parse(CharSequence value) {
+        if (value == null
+                || value.length() != LENGTH
+                || value.charAt(8) != '-'
+                || value.charAt(13) != '-'
+                || value.charAt(18) != '-'
+                || value.charAt(23) != '-') {
+            return null;
+        }
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        int invalid = 0;
+        int digits = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                continue;
+            }
+            int digit = digit(value.charAt(i));
+            invalid |= digit;
+            if (digits++ < 16) {
+                mostSignificantBits = (mostSignificantBits << 4) | (digit & 0xF);
+            } else {
+                leastSignificantBits = (leastSignificantBits << 4) | (digit & 0xF);
+            }
+        }
+        return invalid < 0 ? null : new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static boolean isValid(CharSequence value) {
+        return parse(value) != null;
+    }
+
+    private static int digit(char c) {
+        return c < HEX_DIGITS.length ? HEX_DIGITS[c] : -1;
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.api;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.reliaquest.api.config.AppConfig;
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.model.EmployeeListApiResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class AppConfigTest {
+
+    private static final String URL = "http://mock-service/api/v1/employee";
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Test
+    void restTemplate_shouldAskForSmileAheadOfJsonAndReadIt() throws Exception {
+        RestTemplate restTemplate = restTemplate(AppProperties.MockEmployeeService.WireFormat.SMILE);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        UUID id = UUID.randomUUID();
+        byte[] body = new SmileMapper()
+                .writeValueAsBytes(Map.of(
+                        "data",
+                        List.of(Map.of("id", id.toString(), "employee_name", "Ada Lovelace", "employee_salary", 100)),
+                        "status",
+                        "Successfully processed request."));
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.ACCEPT, startsWith(SMILE.toString())))
+                .andRespond(withSuccess(body, SMILE));
+
+        EmployeeListApiResponse response = restTemplate.getForObject(URL, EmployeeListApiResponse.class);
+
+        server.verify();
+        assertEquals(id, response.getData().get(0).getId());
+        assertEquals("Ada Lovelace", response.getData().get(0).getEmployeeName());
+        assertEquals(100, response.getData().get(0).getEmployeeSalary());
+    }
+
+    @Test
+    void restTemplate_shouldOnlyAskForJsonWhenConfigured() {
+        RestTemplate restTemplate = restTemplate(AppProperties.MockEmployeeService.WireFormat.JSON);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.ACCEPT, not(containsString("smile"))))
+                .andRespond(withSuccess(
+                        "{\"data\":[{\"employee_name\":\"Ada Lovelace\"}],\"status\":\"ok\"}",
+                        MediaType.APPLICATION_JSON));
+
+        EmployeeListApiResponse response = restTemplate.getForObject(URL, EmployeeListApiResponse.class);
+
+        server.verify();
+        assertEquals("Ada Lovelace", response.getData().get(0).getEmployeeName());
+    }
+
+    private static RestTemplate restTemplate(AppProperties.MockEmployeeService.WireFormat wireFormat) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getMockEmployeeService().setWireFormat(wireFormat);
+        return new AppConfig().restTemplate(appProperties);
+    }
+}
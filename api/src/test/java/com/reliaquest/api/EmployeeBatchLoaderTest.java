@@ -0,0 +1,191 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeListApiResponse;
+import com.reliaquest.api.repository.MockEmployeeRestClient;
+import com.reliaquest.api.repository.RequestDeadline;
+import com.reliaquest.api.service.EmployeeBatchLoader;
+import com.reliaquest.api.trace.RequestTrace;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.dozer.DozerBeanMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+class EmployeeBatchLoaderTest {
+
+    private final MockEmployeeRestClient mockEmployeeRestClient = mock(MockEmployeeRestClient.class);
+    private final DozerBeanMapper dozerBeanMapper = mock(DozerBeanMapper.class);
+    private final AppProperties.Batching batching = new AppProperties.Batching();
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private EmployeeBatchLoader employeeBatchLoader;
+
+    @BeforeEach
+    void setUp() {
+        batching.setEnabled(true);
+        batching.setWindow(Duration.ofMillis(200));
+        when(dozerBeanMapper.map(any(), eq(EmployeeDTO.class))).thenAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            return new EmployeeDTO(employee.getId(), employee.getEmployeeName(), 100, 30, null, null);
+        });
+        when(mockEmployeeRestClient.getEmployeesByIds(any())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return new EmployeeListApiResponse(
+                    ids.stream()
+                            .map(id -> new Employee(id, "Employee " + id, 100, 30, null, null))
+                            .collect(Collectors.toList()),
+                    "Success");
+        });
+        employeeBatchLoader = new EmployeeBatchLoader(
+                mockEmployeeRestClient, dozerBeanMapper, new EmployeeRosterCache(List.of()), batching);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        employeeBatchLoader.shutdown();
+    }
+
+    @Test
+    void load_shouldResolveConcurrentLookupsInOneUpstreamCall() {
+        List<UUID> ids = new ArrayList<>();
+        List<CompletableFuture<Optional<EmployeeDTO>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            results.add(CompletableFuture.supplyAsync(() -> employeeBatchLoader.load(id), callers));
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(ids.get(i), results.get(i).join().orElseThrow().getId());
+        }
+        verify(mockEmployeeRestClient, times(1)).getEmployeesByIds(any());
+    }
+
+    @Test
+    void load_shouldFlushFullBatchWithoutWaitingForWindow() {
+        batching.setMaxBatchSize(1);
+        batching.setWindow(Duration.ofSeconds(30));
+        UUID id = UUID.randomUUID();
+
+        assertEquals(id, employeeBatchLoader.load(id).orElseThrow().getId());
+    }
+
+    @Test
+    void load_shouldReturnEmptyForUnknownIdAndPropagateFailures() {
+        when(mockEmployeeRestClient.getEmployeesByIds(any()))
+                .thenReturn(new EmployeeListApiResponse(List.of(), "Success"))
+                .thenThrow(new IllegalStateException("upstream down"));
+
+        assertFalse(employeeBatchLoader.load(UUID.randomUUID()).isPresent());
+        assertThrows(IllegalStateException.class, () -> employeeBatchLoader.load(UUID.randomUUID()));
+    }
+
+    @Test
+    void loadAll_shouldSplitIntoBatchesOfMaxSize() {
+        batching.setMaxBatchSize(3);
+        List<UUID> ids = List.of(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        assertEquals(5, employeeBatchLoader.loadAll(ids).size());
+        verify(mockEmployeeRestClient, times(2)).getEmployeesByIds(any());
+    }
+
+    @Test
+    void load_shouldFetchUnderEarliestDeadlineOfBatch() {
+        AtomicReference<Duration> fetchDeadline = new AtomicReference<>();
+        when(mockEmployeeRestClient.getEmployeesByIds(any())).thenAnswer(invocation -> {
+            fetchDeadline.set(RequestDeadline.remaining());
+            return new EmployeeListApiResponse(List.of(), "Success");
+        });
+
+        CompletableFuture<?> relaxed = CompletableFuture.runAsync(() -> loadWithin(Duration.ofSeconds(30)), callers);
+        CompletableFuture<?> urgent = CompletableFuture.runAsync(() -> loadWithin(Duration.ofSeconds(2)), callers);
+        relaxed.join();
+        urgent.join();
+
+        verify(mockEmployeeRestClient, times(1)).getEmployeesByIds(any());
+        assertTrue(fetchDeadline.get().compareTo(Duration.ofSeconds(2)) <= 0);
+    }
+
+    @Test
+    void load_shouldFetchWithTraceOfRequestThatOpenedBatch() {
+        AtomicReference<RequestTrace> fetchTrace = new AtomicReference<>();
+        when(mockEmployeeRestClient.getEmployeesByIds(any())).thenAnswer(invocation -> {
+            fetchTrace.set(RequestTrace.current());
+            return new EmployeeListApiResponse(List.of(), "Success");
+        });
+        RequestTrace trace = RequestTrace.start("trace-batch", "GET", "/api/v1/employee/id");
+        try {
+            employeeBatchLoader.load(UUID.randomUUID());
+        } finally {
+            RequestTrace.clear();
+        }
+
+        assertSame(trace, fetchTrace.get());
+    }
+
+    @Test
+    void load_shouldNotFlushNextBatchEarlyAfterFullBatch() throws Exception {
+        batching.setMaxBatchSize(2);
+        batching.setWindow(Duration.ofMillis(400));
+        CompletableFuture<?> first =
+                CompletableFuture.runAsync(() -> employeeBatchLoader.load(UUID.randomUUID()), callers);
+        employeeBatchLoader.load(UUID.randomUUID());
+        first.join();
+        Thread.sleep(100);
+
+        long started = System.nanoTime();
+        employeeBatchLoader.load(UUID.randomUUID());
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofMillis(350)) >= 0);
+        verify(mockEmployeeRestClient, times(2)).getEmployeesByIds(any());
+    }
+
+    @Test
+    void load_shouldStopWaitingAfterTimeout() {
+        batching.setWindow(Duration.ofMillis(10));
+        batching.setTimeout(Duration.ofMillis(100));
+        when(mockEmployeeRestClient.getEmployeesByIds(any())).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return new EmployeeListApiResponse(List.of(), "Success");
+        });
+
+        assertThrows(ResourceAccessException.class, () -> employeeBatchLoader.load(UUID.randomUUID()));
+    }
+
+    private void loadWithin(Duration budget) {
+        RequestDeadline.start(budget);
+        try {
+            employeeBatchLoader.load(UUID.randomUUID());
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+}
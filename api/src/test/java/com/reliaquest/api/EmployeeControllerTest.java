@@ -6,10 +6,17 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.AppProperties;
 import com.reliaquest.api.controller.EmployeeController;
 import com.reliaquest.api.dto.EmployeeDTO;
 import com.reliaquest.api.dto.EmployeeRequest;
+import com.reliaquest.api.index.SalaryRankIndex;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.StaleRosterFallback;
+import com.reliaquest.api.util.SuccessLogSampler;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -18,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
@@ -27,6 +35,16 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService<EmployeeDTO, EmployeeRequest> employeeService;
 
+    @Mock
+    private SalaryRankIndex salaryRankIndex;
+
+    @Spy
+    private StaleRosterFallback staleRosterFallback = new StaleRosterFallback(
+            new EmployeeRosterCache(List.of()), CircuitBreaker.ofDefaults("test"), new SimpleMeterRegistry());
+
+    @Spy
+    private SuccessLogSampler successLogSampler = new SuccessLogSampler(new AppProperties.RequestLog());
+
     @InjectMocks
     private EmployeeController employeeController;
 
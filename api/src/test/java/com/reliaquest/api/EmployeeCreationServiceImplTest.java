@@ -0,0 +1,170 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.dto.EmployeeCreationDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeRequest;
+import com.reliaquest.api.errorhandlers.APIException;
+import com.reliaquest.api.repository.PendingCreationJournal;
+import com.reliaquest.api.service.EmployeeCreationServiceImpl;
+import com.reliaquest.api.service.EmployeeService;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+class EmployeeCreationServiceImplTest {
+
+    @SuppressWarnings("unchecked")
+    private final EmployeeService<EmployeeDTO, EmployeeRequest> employeeService = mock(EmployeeService.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AppProperties.AsyncCreate asyncCreate = new AppProperties.AsyncCreate();
+    private final EmployeeRequest employeeRequest = new EmployeeRequest("Jane Doe", 90_000, 29, "Analyst");
+    private final EmployeeDTO employee =
+            new EmployeeDTO(UUID.randomUUID(), "Jane Doe", 90_000, 29, "Analyst", "jane@company.com");
+    private EmployeeCreationServiceImpl employeeCreationService;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        asyncCreate.setBackoff(Duration.ofMillis(20));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (employeeCreationService != null) {
+            employeeCreationService.stop();
+        }
+    }
+
+    @Test
+    void submit_shouldCreateEmployeeInBackground() throws Exception {
+        when(employeeService.createEmployee(employeeRequest)).thenReturn(employee);
+        employeeCreationService = service();
+        employeeCreationService.start();
+
+        EmployeeCreationDTO queued = employeeCreationService.submit(employeeRequest, null);
+        EmployeeCreationDTO created = awaitCompletion(queued.getTrackingId());
+
+        assertEquals(EmployeeCreationDTO.Status.CREATED, created.getStatus());
+        assertEquals(employee, created.getEmployee());
+        assertEquals(1.0, meterRegistry.counter("employee.api.async.create.completed", "outcome", "created").count());
+    }
+
+    @Test
+    void submit_shouldRejectWhenQueueIsFull() {
+        asyncCreate.setCapacity(1);
+        employeeCreationService = service();
+
+        employeeCreationService.submit(employeeRequest, "queued");
+        APIException exception =
+                assertThrows(APIException.class, () -> employeeCreationService.submit(employeeRequest, "queued"));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getHttpStatusCode());
+    }
+
+    @Test
+    void submit_shouldRejectDurableAckWithoutJournal() throws Exception {
+        employeeCreationService = service();
+        employeeCreationService.start();
+
+        APIException exception =
+                assertThrows(APIException.class, () -> employeeCreationService.submit(employeeRequest, "durable"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatusCode());
+    }
+
+    @Test
+    void drain_shouldRetryWhileUpstreamIsUnavailable() throws Exception {
+        when(employeeService.createEmployee(any()))
+                .thenThrow(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("test")))
+                .thenReturn(employee);
+        employeeCreationService = service();
+        employeeCreationService.start();
+
+        EmployeeCreationDTO queued = employeeCreationService.submit(employeeRequest, null);
+
+        assertEquals(EmployeeCreationDTO.Status.CREATED, awaitCompletion(queued.getTrackingId()).getStatus());
+        verify(employeeService, times(2)).createEmployee(employeeRequest);
+    }
+
+    @Test
+    void drain_shouldRecordFailedCreation() throws Exception {
+        when(employeeService.createEmployee(any())).thenThrow(new IllegalStateException("rejected"));
+        employeeCreationService = service();
+        employeeCreationService.start();
+
+        EmployeeCreationDTO queued = employeeCreationService.submit(employeeRequest, null);
+        EmployeeCreationDTO failed = awaitCompletion(queued.getTrackingId());
+
+        assertEquals(EmployeeCreationDTO.Status.FAILED, failed.getStatus());
+        assertEquals("rejected", failed.getError());
+    }
+
+    @Test
+    void start_shouldResumeJournaledCreations() throws Exception {
+        Path path = tempDir.resolve("creations.journal");
+        UUID trackingId = UUID.randomUUID();
+        try (PendingCreationJournal journal = PendingCreationJournal.open(path)) {
+            journal.appendEnqueued(new PendingCreationJournal.Entry(trackingId, Instant.now(), employeeRequest), true);
+        }
+        when(employeeService.createEmployee(employeeRequest)).thenReturn(employee);
+        asyncCreate.setJournalPath(path.toString());
+        employeeCreationService = service();
+        employeeCreationService.start();
+
+        assertEquals(EmployeeCreationDTO.Status.CREATED, awaitCompletion(trackingId).getStatus());
+        employeeCreationService.stop();
+        employeeCreationService = null;
+        try (PendingCreationJournal journal = PendingCreationJournal.open(path)) {
+            assertEquals(List.of(), journal.getPending());
+        }
+    }
+
+    @Test
+    void getCreation_shouldRejectUnknownTrackingId() {
+        employeeCreationService = service();
+
+        APIException exception = assertThrows(
+                APIException.class,
+                () -> employeeCreationService.getCreation(UUID.randomUUID().toString()));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatusCode());
+    }
+
+    private EmployeeCreationServiceImpl service() {
+        return new EmployeeCreationServiceImpl(
+                employeeService, RateLimiter.ofDefaults("test"), asyncCreate, meterRegistry);
+    }
+
+    private EmployeeCreationDTO awaitCompletion(UUID trackingId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        EmployeeCreationDTO creation = employeeCreationService.getCreation(trackingId.toString());
+        while (creation.getCompletedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            creation = employeeCreationService.getCreation(trackingId.toString());
+        }
+        return creation;
+    }
+}
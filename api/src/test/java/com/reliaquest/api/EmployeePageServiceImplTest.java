@@ -0,0 +1,97 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.errorhandlers.APIException;
+import com.reliaquest.api.service.EmployeePageServiceImpl;
+import com.reliaquest.api.service.EmployeeRosterService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeePageServiceImplTest {
+
+    private EmployeePageServiceImpl employeePageService;
+    private List<EmployeeDTO> employees;
+
+    @BeforeEach
+    void setUp() {
+        employees = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            employees.add(new EmployeeDTO(
+                    UUID.randomUUID(), (i % 2 == 0 ? "Even " : "Odd ") + i, 50_000 + i, 30, "Engineer", "e" + i));
+        }
+        EmployeeRosterCache employeeRosterCache = new EmployeeRosterCache(List.of());
+        employeeRosterCache.replaceAll(employees);
+        EmployeeRosterService employeeRosterService = mock(EmployeeRosterService.class);
+        when(employeeRosterService.ensureFresh()).thenReturn(employeeRosterCache);
+        employeePageService = new EmployeePageServiceImpl(employeeRosterService, new AppProperties());
+    }
+
+    @Test
+    void getEmployeePage_shouldWalkWholeRosterByCursor() {
+        Set<UUID> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            EmployeePageDTO page = employeePageService.getEmployeePage(cursor, null, 40, null);
+            assertEquals(250, page.getTotal());
+            page.getEmployees().forEach(employee -> seen.add(employee.getId()));
+            cursor = page.getNextCursor() == null ? null : page.getNextCursor().toString();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(250, seen.size());
+        assertEquals(7, pages);
+    }
+
+    @Test
+    void getEmployeePage_shouldHonourOffsetInIdOrder() {
+        List<EmployeeDTO> sorted = new ArrayList<>(employees);
+        sorted.sort(Comparator.comparing(EmployeeDTO::getId));
+
+        EmployeePageDTO page = employeePageService.getEmployeePage(null, 100, 10, null);
+
+        assertEquals(sorted.subList(100, 110), page.getEmployees());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void searchEmployeePage_shouldProjectRequestedFields() {
+        EmployeePageDTO page = employeePageService.searchEmployeePage("odd", null, null, 500, "id,employee_name");
+
+        assertEquals(125, page.getEmployees().size());
+        assertNull(page.getNextCursor());
+        page.getEmployees().forEach(employee -> {
+            assertNotNull(employee.getId());
+            assertNotNull(employee.getEmployeeName());
+            assertNull(employee.getEmployeeSalary());
+            assertNull(employee.getEmployeeEmail());
+        });
+    }
+
+    @Test
+    void getEmployeePage_shouldRejectInvalidParameters() {
+        assertThrows(APIException.class, () -> employeePageService.getEmployeePage(null, null, 501, null));
+        assertThrows(APIException.class, () -> employeePageService.getEmployeePage(null, null, 10, "password"));
+        assertThrows(APIException.class, () -> employeePageService.getEmployeePage("not-a-uuid", null, 10, null));
+        assertThrows(
+                APIException.class,
+                () -> employeePageService.getEmployeePage(
+                        employees.get(0).getId().toString(), 5, 10, null));
+    }
+}
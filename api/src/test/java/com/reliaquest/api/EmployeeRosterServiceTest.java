@@ -0,0 +1,122 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.index.SalaryRankIndex;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeListApiResponse;
+import com.reliaquest.api.repository.MockEmployeeRestClient;
+import com.reliaquest.api.service.EmployeeBatchLoader;
+import com.reliaquest.api.service.EmployeeRosterService;
+import com.reliaquest.api.service.EmployeeServiceImpl;
+import com.reliaquest.api.service.ParallelRosterAggregator;
+import com.reliaquest.api.service.StaleRosterFallback;
+import com.reliaquest.api.util.SuccessLogSampler;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import org.dozer.DozerBeanMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeRosterServiceTest {
+
+    @Mock
+    private MockEmployeeRestClient mockEmployeeRestClient;
+
+    @Mock
+    private DozerBeanMapper dozerBeanMapper;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private EmployeeRosterCache employeeRosterCache;
+    private EmployeeController employeeController;
+
+    private final EmployeeDTO ada = new EmployeeDTO(UUID.randomUUID(), "Ada Lovelace", 90000, 36, "Analyst", "ada@x");
+
+    @BeforeEach
+    void setUp() {
+        SalaryRankIndex salaryRankIndex = new SalaryRankIndex();
+        employeeRosterCache = new EmployeeRosterCache(List.of(salaryRankIndex));
+        AppProperties appProperties = new AppProperties();
+        StaleRosterFallback staleRosterFallback = new StaleRosterFallback(
+                employeeRosterCache, CircuitBreaker.ofDefaults("test"), new SimpleMeterRegistry());
+        EmployeeRosterService employeeRosterService = new EmployeeRosterService(
+                mockEmployeeRestClient,
+                dozerBeanMapper,
+                employeeRosterCache,
+                appProperties,
+                staleRosterFallback,
+                taskScheduler);
+        EmployeeServiceImpl employeeService = new EmployeeServiceImpl(
+                mockEmployeeRestClient,
+                dozerBeanMapper,
+                employeeRosterCache,
+                employeeRosterService,
+                salaryRankIndex,
+                new ParallelRosterAggregator(ForkJoinPool.commonPool(), false, Integer.MAX_VALUE),
+                new EmployeeBatchLoader(
+                        mockEmployeeRestClient, dozerBeanMapper, employeeRosterCache, new AppProperties.Batching()),
+                appProperties);
+        employeeController = new EmployeeController(
+                employeeService,
+                staleRosterFallback,
+                salaryRankIndex,
+                new SuccessLogSampler(new AppProperties.RequestLog()));
+    }
+
+    @Test
+    void getAllEmployees_shouldServeRestoredSnapshotWithoutUpstreamCall() {
+        employeeRosterCache.restore(new RosterSnapshot(List.of(ada), Instant.now().minus(Duration.ofHours(1))));
+
+        ResponseEntity<List<EmployeeDTO>> first = employeeController.getAllEmployees();
+        ResponseEntity<List<EmployeeDTO>> second = employeeController.getAllEmployees();
+
+        assertEquals(List.of(ada), first.getBody());
+        assertEquals(List.of(ada), second.getBody());
+        verify(mockEmployeeRestClient, never()).getAllEmployees();
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void ensureFresh_shouldReplaceStaleRosterFromBackgroundRefresh() {
+        employeeRosterCache.restore(new RosterSnapshot(List.of(ada), Instant.now().minus(Duration.ofHours(1))));
+        EmployeeDTO grace = new EmployeeDTO(UUID.randomUUID(), "Grace Hopper", 95000, 40, "Admiral", "grace@x");
+        Employee upstream = new Employee(grace.getId(), "Grace Hopper", 95000, 40, "Admiral", "grace@x");
+        when(mockEmployeeRestClient.getAllEmployees()).thenReturn(new EmployeeListApiResponse(List.of(upstream), "ok"));
+        when(dozerBeanMapper.map(any(Employee.class), eq(EmployeeDTO.class))).thenReturn(grace);
+        employeeController.getAllEmployees();
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(refresh.capture(), any(Instant.class));
+
+        refresh.getValue().run();
+
+        assertFalse(employeeRosterCache.isStale(Duration.ofSeconds(30)));
+        assertEquals(List.of(grace), employeeController.getAllEmployees().getBody());
+        verify(mockEmployeeRestClient, times(1)).getAllEmployees();
+    }
+}
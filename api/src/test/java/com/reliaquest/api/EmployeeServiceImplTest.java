@@ -6,30 +6,42 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.AppProperties;
 import com.reliaquest.api.dto.EmployeeDTO;
 import com.reliaquest.api.dto.EmployeeDeleteRequest;
 import com.reliaquest.api.dto.EmployeeRequest;
 import com.reliaquest.api.errorhandlers.APIException;
+import com.reliaquest.api.index.SalaryRankIndex;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeApiResponse;
 import com.reliaquest.api.model.EmployeeDeleteApiResponse;
 import com.reliaquest.api.model.EmployeeListApiResponse;
 import com.reliaquest.api.repository.MockEmployeeRestClient;
+import com.reliaquest.api.service.EmployeeBatchLoader;
+import com.reliaquest.api.service.EmployeeRosterService;
 import com.reliaquest.api.service.EmployeeServiceImpl;
+import com.reliaquest.api.service.ParallelRosterAggregator;
+import com.reliaquest.api.service.StaleRosterFallback;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 import org.dozer.DozerBeanMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.TaskScheduler;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceImplTest {
@@ -40,7 +52,9 @@ class EmployeeServiceImplTest {
     @Mock
     private DozerBeanMapper dozerBeanMapper;
 
-    @InjectMocks
+    @Mock
+    private TaskScheduler taskScheduler;
+
     private EmployeeServiceImpl employeeService;
 
     private EmployeeDTO employeeDTO;
@@ -53,6 +67,27 @@ class EmployeeServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        SalaryRankIndex salaryRankIndex = new SalaryRankIndex();
+        EmployeeRosterCache employeeRosterCache = new EmployeeRosterCache(List.of(salaryRankIndex));
+        AppProperties appProperties = new AppProperties();
+        EmployeeRosterService employeeRosterService = new EmployeeRosterService(
+                mockEmployeeRestClient,
+                dozerBeanMapper,
+                employeeRosterCache,
+                appProperties,
+                new StaleRosterFallback(
+                        employeeRosterCache, CircuitBreaker.ofDefaults("test"), new SimpleMeterRegistry()),
+                taskScheduler);
+        employeeService = new EmployeeServiceImpl(
+                mockEmployeeRestClient,
+                dozerBeanMapper,
+                employeeRosterCache,
+                employeeRosterService,
+                salaryRankIndex,
+                new ParallelRosterAggregator(ForkJoinPool.commonPool(), false, Integer.MAX_VALUE),
+                new EmployeeBatchLoader(
+                        mockEmployeeRestClient, dozerBeanMapper, employeeRosterCache, new AppProperties.Batching()),
+                appProperties);
         employeeDTO =
                 new EmployeeDTO(employeeId, "Hanumant Shinde", 50000, 30, "Engineer", "hanumantshinde@reliaquest.com");
         Employee employee =
@@ -78,7 +113,7 @@ class EmployeeServiceImplTest {
 
     @Test
     void getEmployeeById_shouldReturnEmployee() {
-        when(mockEmployeeRestClient.getEmployeeById(employeeId.toString())).thenReturn(employeeApiResponse);
+        when(mockEmployeeRestClient.getEmployeeById(employeeId)).thenReturn(employeeApiResponse);
         when(dozerBeanMapper.map(any(), eq(EmployeeDTO.class))).thenReturn(employeeDTO);
 
         EmployeeDTO result = employeeService.getEmployeeById(employeeId.toString());
@@ -89,13 +124,34 @@ class EmployeeServiceImplTest {
 
     @Test
     void getEmployeeById_shouldThrowAPIExceptionWhenNotFound() {
-        when(mockEmployeeRestClient.getEmployeeById(employeeId.toString())).thenReturn(null);
+        when(mockEmployeeRestClient.getEmployeeById(employeeId)).thenReturn(null);
 
         APIException exception =
                 assertThrows(APIException.class, () -> employeeService.getEmployeeById(employeeId.toString()));
         assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatusCode());
     }
 
+    @Test
+    void getEmployeesByIds_shouldReturnFoundEmployeesInOneUpstreamCall() {
+        UUID unknownId = UUID.randomUUID();
+        when(mockEmployeeRestClient.getEmployeesByIds(any())).thenReturn(employeeListApiResponse);
+        when(dozerBeanMapper.map(any(), eq(EmployeeDTO.class))).thenReturn(employeeDTO);
+
+        List<EmployeeDTO> result = employeeService.getEmployeesByIds(
+                List.of(unknownId.toString(), employeeId.toString(), employeeId.toString()));
+
+        assertEquals(List.of(employeeDTO), result);
+        verify(mockEmployeeRestClient, times(1)).getEmployeesByIds(any());
+    }
+
+    @Test
+    void getEmployeesByIds_shouldRejectTooManyIds() {
+        List<String> ids = Collections.nCopies(101, employeeId.toString());
+
+        APIException exception = assertThrows(APIException.class, () -> employeeService.getEmployeesByIds(ids));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatusCode());
+    }
+
     @Test
     void getHighestSalaryOfEmployees_shouldReturnMaxSalary() {
         when(mockEmployeeRestClient.getAllEmployees()).thenReturn(employeeListApiResponse);
@@ -146,7 +202,7 @@ class EmployeeServiceImplTest {
 
     @Test
     void deleteEmployeeById_shouldReturnDeletedEmployeeName() {
-        when(mockEmployeeRestClient.getEmployeeById(employeeId.toString())).thenReturn(employeeApiResponse);
+        when(mockEmployeeRestClient.getEmployeeById(employeeId)).thenReturn(employeeApiResponse);
         when(mockEmployeeRestClient.deleteEmployeeByName(employeeDeleteRequest)).thenReturn(employeeDeleteApiResponse);
         when(dozerBeanMapper.map(any(), eq(EmployeeDTO.class))).thenReturn(employeeDTO);
 
@@ -157,7 +213,7 @@ class EmployeeServiceImplTest {
 
     @Test
     void deleteEmployeeById_shouldThrowExceptionWhenDeletionFails() {
-        when(mockEmployeeRestClient.getEmployeeById(employeeId.toString())).thenReturn(employeeApiResponse);
+        when(mockEmployeeRestClient.getEmployeeById(employeeId)).thenReturn(employeeApiResponse);
         employeeDeleteApiResponse.setData(false);
         when(mockEmployeeRestClient.deleteEmployeeByName(employeeDeleteRequest)).thenReturn(employeeDeleteApiResponse);
         when(dozerBeanMapper.map(any(), eq(EmployeeDTO.class))).thenReturn(employeeDTO);
@@ -0,0 +1,69 @@
+package com.reliaquest.api;
+
+import static com.reliaquest.api.util.Constants.INVALID_UUID_FORMAT;
+import static com.reliaquest.api.util.Constants.OBJECT_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.errorhandlers.APIError;
+import com.reliaquest.api.errorhandlers.APIException;
+import com.reliaquest.api.errorhandlers.ErrorHandlerController;
+import com.reliaquest.api.errorhandlers.ErrorMessageResolver;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class ErrorHandlerControllerTest {
+
+    private StaticMessageSource messageSource;
+    private ErrorHandlerController errorHandlerController;
+
+    @BeforeEach
+    void setUp() {
+        messageSource = spy(new StaticMessageSource());
+        messageSource.addMessage(OBJECT_NOT_FOUND, Locale.getDefault(), "Object with id {0} not found");
+        messageSource.addMessage(INVALID_UUID_FORMAT, Locale.getDefault(), "Invalid UUID format: {0}");
+        errorHandlerController =
+                new ErrorHandlerController(new ErrorMessageResolver(messageSource), new AppProperties());
+    }
+
+    @Test
+    void handleAPIException_shouldResolveMessageOncePerMessageId() {
+        for (int i = 0; i < 3; i++) {
+            ResponseEntity<APIError> response = errorHandlerController.handleAPIException(
+                    new APIException(OBJECT_NOT_FOUND, new Object[] {"id-" + i}, HttpStatus.NOT_FOUND));
+
+            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+            assertEquals("Object with id id-" + i + " not found", response.getBody().getMessage());
+            assertEquals("404", response.getBody().getStatus());
+        }
+        verify(messageSource, times(1)).getMessage(anyString(), any(), anyString(), any(Locale.class));
+    }
+
+    @Test
+    void handleAPIException_shouldReturnEmptyMessageForUnknownMessageId() {
+        ResponseEntity<APIError> response = errorHandlerController.handleAPIException(
+                new APIException("unknown.message", new Object[] {}, HttpStatus.BAD_REQUEST));
+
+        assertEquals("", response.getBody().getMessage());
+        assertEquals("unknown.message", response.getBody().getId());
+    }
+
+    @Test
+    void apiException_shouldOmitStackTraceForClientErrors() {
+        APIException clientError = new APIException(INVALID_UUID_FORMAT, new Object[] {"x"}, HttpStatus.BAD_REQUEST);
+        APIException serverError = new APIException(INVALID_UUID_FORMAT, null, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        assertEquals(0, clientError.getStackTrace().length);
+        assertTrue(serverError.getStackTrace().length > 0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.reliaquest.api.util.GzipDecodingInterceptor;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class GzipDecodingInterceptorTest {
+
+    private static final String URL = "http://mock-service/api/v1/employee";
+    private static final String BODY = "{\"data\":[{\"employee_name\":\"Ada Lovelace\"}],\"status\":\"ok\"}";
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new GzipDecodingInterceptor());
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void intercept_shouldDecodeGzipBodyAndDropEncodingHeaders() throws Exception {
+        byte[] compressed = gzip(BODY);
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andRespond(withSuccess(compressed, MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(compressed.length)));
+
+        String[] received = restTemplate.execute(URL, HttpMethod.GET, null, response -> new String[] {
+            response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING),
+            response.getHeaders().getFirst(HttpHeaders.CONTENT_LENGTH),
+            new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8)
+        });
+
+        server.verify();
+        assertNull(received[0]);
+        assertNull(received[1]);
+        assertEquals(BODY, received[2]);
+    }
+
+    @Test
+    void intercept_shouldPassUncompressedBodyThrough() {
+        server.expect(requestTo(URL)).andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+
+        String body = restTemplate.getForObject(URL, String.class);
+
+        server.verify();
+        assertEquals(BODY, body);
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
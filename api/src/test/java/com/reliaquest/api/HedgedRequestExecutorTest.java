@@ -0,0 +1,263 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.repository.HedgedRequestExecutor;
+import com.reliaquest.api.repository.UpstreamCallExecutor;
+import com.reliaquest.api.repository.UpstreamOperation;
+import com.reliaquest.api.repository.UpstreamPermit;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+class HedgedRequestExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HedgedRequestExecutor hedgedRequestExecutor;
+
+    @AfterEach
+    void tearDown() {
+        if (hedgedRequestExecutor != null) {
+            hedgedRequestExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void execute_shouldRunOnCallerThreadWhenDisabled() {
+        hedgedRequestExecutor = new HedgedRequestExecutor(new AppProperties.Hedging(), meterRegistry);
+        Thread caller = Thread.currentThread();
+
+        assertEquals(caller, hedgedRequestExecutor.execute(Thread::currentThread));
+    }
+
+    @Test
+    void execute_shouldTakeHedgeWhenPrimaryIsSlow() {
+        hedgedRequestExecutor = new HedgedRequestExecutor(hedging(1.0), meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+        long started = System.nanoTime();
+
+        String result =
+                hedgedRequestExecutor.execute(() -> calls.incrementAndGet() == 1 ? sleep(5_000, "slow") : "fast");
+
+        assertEquals("fast", result);
+        assertEquals(2, calls.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 2_000);
+        assertEquals(1.0, meterRegistry.counter("employee.api.upstream.hedge.issued").count());
+        assertEquals(1.0, meterRegistry.counter("employee.api.upstream.hedge.won").count());
+    }
+
+    @Test
+    void execute_shouldNotHedgeBeyondBudget() {
+        hedgedRequestExecutor = new HedgedRequestExecutor(hedging(0.5), meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            hedgedRequestExecutor.execute(() -> {
+                calls.incrementAndGet();
+                return sleep(100, "ok");
+            });
+        }
+
+        assertEquals(2.0, meterRegistry.counter("employee.api.upstream.hedge.issued").count());
+        assertEquals(2.0, meterRegistry.counter("employee.api.upstream.hedge.budget.exhausted").count());
+        assertEquals(6, calls.get());
+    }
+
+    @Test
+    void execute_shouldFailOnlyWhenBothRequestsFail() {
+        hedgedRequestExecutor = new HedgedRequestExecutor(hedging(1.0), meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedgedRequestExecutor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(200, null);
+                throw new IllegalStateException("primary failed");
+            }
+            return sleep(400, "hedge");
+        });
+        assertEquals("hedge", result);
+
+        assertThrows(IllegalStateException.class, () -> hedgedRequestExecutor.execute(() -> {
+            throw new IllegalStateException("upstream down");
+        }));
+    }
+
+    @Test
+    void execute_shouldFailWithErrorInsteadOfWaitingForever() {
+        hedgedRequestExecutor = new HedgedRequestExecutor(hedging(1.0), meterRegistry);
+
+        assertTimeoutPreemptively(
+                Duration.ofSeconds(5),
+                () -> assertThrows(StackOverflowError.class, () -> hedgedRequestExecutor.execute(() -> {
+                    sleep(50, null);
+                    throw new StackOverflowError();
+                })));
+    }
+
+    @Test
+    void execute_shouldGiveUpAfterTimeout() {
+        AppProperties.Hedging hedging = hedging(0.0);
+        hedging.setTimeout(Duration.ofMillis(200));
+        hedgedRequestExecutor = new HedgedRequestExecutor(hedging, meterRegistry);
+
+        assertTimeoutPreemptively(
+                Duration.ofSeconds(5),
+                () -> assertThrows(
+                        ResourceAccessException.class,
+                        () -> hedgedRequestExecutor.execute(() -> sleep(10_000, "late"))));
+    }
+
+    @Test
+    void execute_shouldSkipHedgeWithoutPermit() {
+        hedgedRequestExecutor = new HedgedRequestExecutor(hedging(1.0), meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedgedRequestExecutor.execute(
+                () -> {
+                    calls.incrementAndGet();
+                    return sleep(100, "primary");
+                },
+                Optional::empty);
+
+        assertEquals("primary", result);
+        assertEquals(1, calls.get());
+        assertEquals(0.0, meterRegistry.counter("employee.api.upstream.hedge.issued").count());
+    }
+
+    @Test
+    void execute_shouldReleaseHedgePermitOnceDone() throws Exception {
+        hedgedRequestExecutor = new HedgedRequestExecutor(hedging(1.0), meterRegistry);
+        AtomicInteger released = new AtomicInteger();
+        CountDownLatch hedgeDone = new CountDownLatch(1);
+        UpstreamPermit permit = new UpstreamPermit() {
+            @Override
+            public <T> T run(Supplier<T> call) {
+                try {
+                    return call.get();
+                } finally {
+                    release();
+                    hedgeDone.countDown();
+                }
+            }
+
+            @Override
+            public void release() {
+                released.incrementAndGet();
+            }
+        };
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedgedRequestExecutor.execute(
+                () -> calls.incrementAndGet() == 1 ? sleep(300, "slow") : "fast", () -> Optional.of(permit));
+
+        assertEquals("fast", result);
+        assertTrue(hedgeDone.await(5, TimeUnit.SECONDS));
+        assertEquals(1, released.get());
+    }
+
+    @Test
+    void execute_shouldHoldPrimaryPermitUntilCancelledPrimaryReturns() throws Exception {
+        hedgedRequestExecutor = new HedgedRequestExecutor(hedging(1.0), meterRegistry);
+        Bulkhead bulkhead = Bulkhead.of("read", BulkheadConfig.custom().maxConcurrentCalls(1).build());
+        UpstreamCallExecutor upstreamCallExecutor = new UpstreamCallExecutor(
+                RetryConfig.ofDefaults(),
+                Map.of(UpstreamOperation.READ, CircuitBreaker.ofDefaults("read")),
+                Map.of(UpstreamOperation.READ, bulkhead),
+                0.0,
+                Duration.ofSeconds(1));
+        CountDownLatch primaryStarted = new CountDownLatch(1);
+        CountDownLatch upstreamAnswers = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = upstreamCallExecutor.executeWithPermit(
+                UpstreamOperation.READ,
+                "read",
+                permit -> hedgedRequestExecutor.execute(
+                        permit,
+                        () -> {
+                            if (calls.incrementAndGet() > 1) {
+                                return "hedge";
+                            }
+                            primaryStarted.countDown();
+                            awaitIgnoringInterrupts(upstreamAnswers);
+                            return "primary";
+                        },
+                        () -> Optional.of(UpstreamPermit.UNLIMITED)));
+
+        assertEquals("hedge", result);
+        assertTrue(primaryStarted.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(0, bulkhead.getMetrics().getAvailableConcurrentCalls());
+        assertFalse(upstreamCallExecutor.tryAcquire(UpstreamOperation.READ).isPresent());
+
+        upstreamAnswers.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.getMetrics().getAvailableConcurrentCalls() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, bulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    void execute_shouldRunOnCallerThreadWhenPoolIsSaturated() throws Exception {
+        hedgedRequestExecutor = new HedgedRequestExecutor(hedging(1.0), 1, meterRegistry);
+        CountDownLatch busy = new CountDownLatch(1);
+        Thread other = new Thread(() -> hedgedRequestExecutor.execute(() -> {
+            busy.countDown();
+            return sleep(1_000, "other");
+        }));
+        other.start();
+        assertTrue(busy.await(5, TimeUnit.SECONDS));
+        Thread caller = Thread.currentThread();
+
+        assertEquals(caller, hedgedRequestExecutor.execute(Thread::currentThread));
+        assertEquals(0.0, meterRegistry.counter("employee.api.upstream.hedge.issued").count());
+        other.join();
+    }
+
+    private static AppProperties.Hedging hedging(double budgetRatio) {
+        AppProperties.Hedging hedging = new AppProperties.Hedging();
+        hedging.setEnabled(true);
+        hedging.setDelay(Duration.ofMillis(20));
+        hedging.setBudgetRatio(budgetRatio);
+        return hedging;
+    }
+
+    /* Like a blocking HTTP read, which an interrupt does not end */
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException e) {
+                /* keep waiting */
+            }
+        }
+    }
+
+    private static String sleep(long millis, String result) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+}
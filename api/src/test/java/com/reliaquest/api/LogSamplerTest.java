@@ -0,0 +1,28 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.reliaquest.api.util.LogSampler;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LogSamplerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final LogSampler logSampler = new LogSampler(Duration.ofSeconds(1), 2, now::get);
+
+    @Test
+    void sample_shouldSuppressBeyondLimitAndReportSuppressedCount() {
+        assertEquals(0, logSampler.sample("object.not.found"));
+        assertEquals(0, logSampler.sample("object.not.found"));
+        assertEquals(-1, logSampler.sample("object.not.found"));
+        assertEquals(-1, logSampler.sample("object.not.found"));
+        assertEquals(0, logSampler.sample("invalid.uuid.format"));
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertEquals(2, logSampler.sample("object.not.found"));
+        assertEquals(0, logSampler.sample("object.not.found"));
+    }
+}
@@ -14,12 +14,20 @@ import com.reliaquest.api.dto.EmployeeRequest;
 import com.reliaquest.api.model.EmployeeApiResponse;
 import com.reliaquest.api.model.EmployeeDeleteApiResponse;
 import com.reliaquest.api.model.EmployeeListApiResponse;
+import com.reliaquest.api.repository.HedgedRequestExecutor;
 import com.reliaquest.api.repository.MockEmployeeRestClient;
+import com.reliaquest.api.repository.UpstreamCallExecutor;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -40,6 +48,14 @@ class MockEmployeeRestClientTest {
     @Mock
     private AppProperties.MockEmployeeService mockEmployeeService;
 
+    @Spy
+    private UpstreamCallExecutor upstreamCallExecutor = new UpstreamCallExecutor(
+            RetryConfig.custom().maxAttempts(1).build(), CircuitBreaker.ofDefaults("test"), 0, Duration.ZERO);
+
+    @Spy
+    private HedgedRequestExecutor hedgedRequestExecutor =
+            new HedgedRequestExecutor(new AppProperties.Hedging(), new SimpleMeterRegistry());
+
     @InjectMocks
     private MockEmployeeRestClient mockEmployeeRestClient;
 
@@ -63,11 +79,12 @@ class MockEmployeeRestClientTest {
 
     @Test
     void testGetEmployeeById_Success() {
+        UUID id = UUID.randomUUID();
         EmployeeApiResponse mockResponse = new EmployeeApiResponse();
-        when(restTemplate.getForEntity(eq("http://mock-service/api/v1/employee/123"), eq(EmployeeApiResponse.class)))
+        when(restTemplate.getForEntity(eq("http://mock-service/api/v1/employee/" + id), eq(EmployeeApiResponse.class)))
                 .thenReturn(new ResponseEntity<>(mockResponse, HttpStatus.OK));
 
-        EmployeeApiResponse response = mockEmployeeRestClient.getEmployeeById("123");
+        EmployeeApiResponse response = mockEmployeeRestClient.getEmployeeById(id);
 
         assertNotNull(response);
         verify(restTemplate, times(1)).getForEntity(any(String.class), eq(EmployeeApiResponse.class));
@@ -106,10 +123,11 @@ class MockEmployeeRestClientTest {
 
     @Test
     void testGetEmployeeById_NotFound() {
-        when(restTemplate.getForEntity(eq("http://mock-service/api/v1/employee/999"), eq(EmployeeApiResponse.class)))
+        UUID id = UUID.randomUUID();
+        when(restTemplate.getForEntity(eq("http://mock-service/api/v1/employee/" + id), eq(EmployeeApiResponse.class)))
                 .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
 
-        assertThrows(HttpClientErrorException.class, () -> mockEmployeeRestClient.getEmployeeById("999"));
+        assertThrows(HttpClientErrorException.class, () -> mockEmployeeRestClient.getEmployeeById(id));
         verify(restTemplate, times(1)).getForEntity(any(String.class), eq(EmployeeApiResponse.class));
     }
 }
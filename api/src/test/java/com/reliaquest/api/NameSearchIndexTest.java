@@ -0,0 +1,75 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.NameMatchDTO;
+import com.reliaquest.api.dto.NameMatchDTO.MatchType;
+import com.reliaquest.api.index.NameSearchIndex;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NameSearchIndexTest {
+
+    private NameSearchIndex nameSearchIndex;
+    private EmployeeRosterCache employeeRosterCache;
+    private EmployeeDTO johnSmith;
+
+    @BeforeEach
+    void setUp() {
+        nameSearchIndex = new NameSearchIndex();
+        employeeRosterCache = new EmployeeRosterCache(List.of(nameSearchIndex));
+        johnSmith = employee("John Smith");
+        employeeRosterCache.replaceAll(List.of(
+                johnSmith, employee("Johanna Doe"), employee("Jon"), employee("Zoë Saldaña"), employee("Mary Jones")));
+    }
+
+    @Test
+    void autocomplete_shouldRankFullNamePrefixBeforeTokenPrefix() {
+        List<NameMatchDTO> matches = nameSearchIndex.autocomplete("Jo", 10);
+
+        assertEquals(List.of("Johanna Doe", "John Smith", "Jon", "Mary Jones"), names(matches));
+        assertEquals(MatchType.PREFIX, matches.get(0).getMatchType());
+        assertEquals(MatchType.TOKEN_PREFIX, matches.get(3).getMatchType());
+    }
+
+    @Test
+    void autocomplete_shouldIgnoreCaseAndDiacritics() {
+        assertEquals(List.of("Zoë Saldaña"), names(nameSearchIndex.autocomplete("zoe sal", 10)));
+    }
+
+    @Test
+    void search_shouldPutExactMatchFirstAndTolerateTypos() {
+        List<NameMatchDTO> exact = nameSearchIndex.search("jon", 1, 10);
+        assertEquals(MatchType.EXACT, exact.get(0).getMatchType());
+        assertEquals("Jon", exact.get(0).getEmployeeName());
+
+        List<NameMatchDTO> fuzzy = nameSearchIndex.search("Jhon Smith", 2, 10);
+        assertEquals(1, fuzzy.size());
+        assertEquals(MatchType.FUZZY, fuzzy.get(0).getMatchType());
+        assertEquals(johnSmith.getId(), fuzzy.get(0).getId());
+    }
+
+    @Test
+    void search_shouldRespectLimitAndRemovals() {
+        assertEquals(2, nameSearchIndex.search("jo", 1, 2).size());
+
+        employeeRosterCache.remove(johnSmith.getId());
+
+        assertTrue(nameSearchIndex.search("smith", 1, 10).isEmpty());
+        assertTrue(names(nameSearchIndex.autocomplete("john", 10)).isEmpty());
+    }
+
+    private static List<String> names(List<NameMatchDTO> matches) {
+        return matches.stream().map(NameMatchDTO::getEmployeeName).collect(Collectors.toList());
+    }
+
+    private static EmployeeDTO employee(String name) {
+        return new EmployeeDTO(UUID.randomUUID(), name, 50_000, 30, "Engineer", null);
+    }
+}
@@ -0,0 +1,56 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.service.ParallelRosterAggregator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelRosterAggregatorTest {
+
+    private ForkJoinPool pool;
+    private ParallelRosterAggregator parallel;
+    private ParallelRosterAggregator sequential;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        parallel = new ParallelRosterAggregator(pool, true, 1_000);
+        sequential = new ParallelRosterAggregator(pool, false, 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void filter_shouldKeepEncounterOrderAcrossForks() {
+        List<Integer> items = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+        List<Integer> result = parallel.filter(items, item -> item % 7 == 0);
+
+        assertEquals(sequential.filter(items, item -> item % 7 == 0), result);
+    }
+
+    @Test
+    void max_shouldMatchSequentialResult() {
+        List<Integer> items = IntStream.range(0, 100_000)
+                .map(item -> (item * 7919) % 100_003)
+                .boxed()
+                .collect(Collectors.toList());
+
+        assertEquals(sequential.max(items, Integer::intValue), parallel.max(items, Integer::intValue));
+    }
+
+    @Test
+    void max_shouldBeEmptyForEmptyInput() {
+        assertTrue(parallel.max(List.<Integer>of(), Integer::intValue).isEmpty());
+    }
+}
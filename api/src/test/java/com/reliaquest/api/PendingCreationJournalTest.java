@@ -0,0 +1,79 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.dto.EmployeeRequest;
+import com.reliaquest.api.repository.PendingCreationJournal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PendingCreationJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void open_shouldReplayPendingCreations() throws Exception {
+        Path path = tempDir.resolve("creations.journal");
+        PendingCreationJournal.Entry first =
+                entry(new EmployeeRequest("Zo\u00eb M\u00fcller", 120_000, 41, "Engineer"));
+        PendingCreationJournal.Entry second = entry(new EmployeeRequest("John Doe", null, 35, "Manager"));
+
+        try (PendingCreationJournal journal = PendingCreationJournal.open(path)) {
+            assertTrue(journal.getPending().isEmpty());
+            journal.appendEnqueued(first, true);
+            journal.appendEnqueued(second, false);
+        }
+
+        try (PendingCreationJournal journal = PendingCreationJournal.open(path)) {
+            assertEquals(List.of(first, second), journal.getPending());
+        }
+    }
+
+    @Test
+    void open_shouldDropCompletedCreations() throws Exception {
+        Path path = tempDir.resolve("creations.journal");
+        PendingCreationJournal.Entry first = entry(new EmployeeRequest("Jane Doe", 90_000, 29, "Analyst"));
+        PendingCreationJournal.Entry second = entry(new EmployeeRequest("John Doe", 80_000, 35, "Manager"));
+
+        try (PendingCreationJournal journal = PendingCreationJournal.open(path)) {
+            journal.appendEnqueued(first, false);
+            journal.appendEnqueued(second, false);
+            journal.appendDone(first.getTrackingId());
+        }
+        long journaled = Files.size(path);
+
+        try (PendingCreationJournal journal = PendingCreationJournal.open(path)) {
+            assertEquals(List.of(second), journal.getPending());
+        }
+        assertTrue(Files.size(path) < journaled);
+    }
+
+    @Test
+    void open_shouldIgnoreTornTail() throws Exception {
+        Path path = tempDir.resolve("creations.journal");
+        PendingCreationJournal.Entry first = entry(new EmployeeRequest("Jane Doe", 90_000, 29, "Analyst"));
+
+        try (PendingCreationJournal journal = PendingCreationJournal.open(path)) {
+            journal.appendEnqueued(first, true);
+        }
+        Files.write(path, new byte[] {0, 0, 0, 64, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (PendingCreationJournal journal = PendingCreationJournal.open(path)) {
+            assertEquals(List.of(first), journal.getPending());
+        }
+    }
+
+    private static PendingCreationJournal.Entry entry(EmployeeRequest request) {
+        return new PendingCreationJournal.Entry(
+                UUID.randomUUID(), Instant.now().truncatedTo(ChronoUnit.MILLIS), request);
+    }
+}
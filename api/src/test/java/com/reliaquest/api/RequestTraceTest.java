@@ -0,0 +1,80 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.trace.RequestTrace;
+import com.reliaquest.api.trace.SlowRequestLog;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestTraceTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTrace.clear();
+    }
+
+    @Test
+    void time_shouldRecordStagesOfTheCurrentRequest() {
+        RequestTrace trace = RequestTrace.start("trace-1", "GET", "/api/v1/employee");
+
+        String result = RequestTrace.time("service", () -> RequestTrace.time("mapping", () -> "mapped"));
+        trace.finish(200);
+
+        assertEquals("mapped", result);
+        assertEquals(
+                List.of("mapping", "service"),
+                trace.getStages().stream().map(RequestTrace.Stage::getName).collect(Collectors.toList()));
+        assertEquals(200, trace.getStatus());
+        assertTrue(trace.getDurationMicros() >= trace.getStages().get(1).getDurationMicros());
+    }
+
+    @Test
+    void time_shouldRunUntracedWithoutCurrentRequest() {
+        assertEquals("done", RequestTrace.time("service", () -> "done"));
+        assertNull(RequestTrace.current());
+    }
+
+    @Test
+    void propagate_shouldRecordStagesFromOtherThreads() {
+        RequestTrace trace = RequestTrace.start("trace-2", "GET", "/api/v1/employee/id");
+        Supplier<RequestTrace> work = RequestTrace.propagate(() -> {
+            RequestTrace.recordSince("upstream.attempt", System.nanoTime());
+            return RequestTrace.current();
+        });
+
+        assertSame(trace, CompletableFuture.supplyAsync(work).join());
+        assertEquals(1, trace.getStages().size());
+        assertEquals("upstream.attempt", trace.getStages().get(0).getName());
+    }
+
+    @Test
+    void slowest_shouldReturnLongestRetainedRequestsFirst() throws InterruptedException {
+        SlowRequestLog slowRequestLog = new SlowRequestLog(2);
+        RequestTrace slow = RequestTrace.start("slow", "GET", "/api/v1/employee");
+        Thread.sleep(5);
+        slow.finish(200);
+        RequestTrace fast = RequestTrace.start("fast", "GET", "/api/v1/employee");
+        fast.finish(200);
+        RequestTrace slower = RequestTrace.start("slower", "GET", "/api/v1/employee");
+        Thread.sleep(10);
+        slower.finish(200);
+
+        slowRequestLog.record(slow);
+        slowRequestLog.record(fast);
+        slowRequestLog.record(slower);
+
+        assertEquals(
+                List.of("slower", "fast"),
+                slowRequestLog.slowest(5).stream()
+                        .map(RequestTrace::getTraceId)
+                        .collect(Collectors.toList()));
+    }
+}
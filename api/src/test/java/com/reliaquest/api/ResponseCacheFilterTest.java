@@ -0,0 +1,144 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.config.AppProperties;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.filter.ResponseCacheFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ResponseCacheFilterTest {
+
+    private static final String TOP_EARNERS = "/api/v2/employee/topTenHighestEarningEmployeeNames";
+
+    private final AtomicInteger computed = new AtomicInteger();
+    private final FilterChain endpoint = (request, response) -> {
+        computed.incrementAndGet();
+        response.setContentType("application/json");
+        response.getOutputStream().write("[\"Ada Lovelace\"]".getBytes(StandardCharsets.UTF_8));
+    };
+    private EmployeeRosterCache employeeRosterCache;
+    private ResponseCacheFilter responseCacheFilter;
+
+    @BeforeEach
+    void setUp() {
+        employeeRosterCache = new EmployeeRosterCache(List.of());
+        employeeRosterCache.replaceAll(List.of(employee("Ada Lovelace")));
+        responseCacheFilter =
+                new ResponseCacheFilter(new AppProperties(), employeeRosterCache, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void doFilter_shouldServeCachedBodyWhileRosterIsUnchanged() throws Exception {
+        MockHttpServletResponse first = poll(null);
+        MockHttpServletResponse second = poll(null);
+
+        assertEquals(1, computed.get());
+        assertEquals(200, second.getStatus());
+        assertEquals("[\"Ada Lovelace\"]", second.getContentAsString());
+        assertEquals("application/json", second.getContentType());
+        assertNotNull(first.getHeader(HttpHeaders.ETAG));
+        assertEquals(first.getHeader(HttpHeaders.ETAG), second.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void doFilter_shouldAnswerNotModifiedForMatchingETag() throws Exception {
+        String etag = poll(null).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse revalidated = poll(etag);
+
+        assertEquals(1, computed.get());
+        assertEquals(304, revalidated.getStatus());
+        assertEquals(0, revalidated.getContentAsByteArray().length);
+        assertEquals(etag, revalidated.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void doFilter_shouldRecomputeAfterRosterChange() throws Exception {
+        String etag = poll(null).getHeader(HttpHeaders.ETAG);
+        employeeRosterCache.put(employee("Grace Hopper"));
+
+        MockHttpServletResponse revalidated = poll(etag);
+
+        assertEquals(2, computed.get());
+        /* Same body as before the change, so the client's copy is still good */
+        assertEquals(304, revalidated.getStatus());
+    }
+
+    @Test
+    void doFilter_shouldShareEntryBetweenEquivalentAcceptHeaders() throws Exception {
+        MockHttpServletResponse first = poll(null, "application/json,  */*;q=0.8");
+        poll(null, "Application/JSON, */*; q=0.8");
+        poll(null, null);
+        poll(null, "*/*");
+
+        assertEquals(2, computed.get());
+        assertEquals(HttpHeaders.ACCEPT, first.getHeader(HttpHeaders.VARY));
+    }
+
+    @Test
+    void doFilter_shouldKeepSeparateEntriesPerAcceptHeader() throws Exception {
+        poll(null, "application/json");
+        poll(null, "application/x-jackson-smile");
+        MockHttpServletResponse json = poll(null, "application/json");
+
+        assertEquals(2, computed.get());
+        assertEquals(HttpHeaders.ACCEPT, json.getHeader(HttpHeaders.VARY));
+    }
+
+    @Test
+    void doFilter_shouldEvictLeastRecentlyUsedEntries() throws Exception {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getResponseCache().setMaxEntries(1);
+        responseCacheFilter = new ResponseCacheFilter(appProperties, employeeRosterCache, new SimpleMeterRegistry());
+        poll(null, "application/json");
+        employeeRosterCache.put(employee("Grace Hopper"));
+
+        poll(null, "application/x-jackson-smile");
+        poll(null, "application/x-jackson-smile");
+
+        /* The outdated entry made room, so the new one is served from the cache */
+        assertEquals(2, computed.get());
+    }
+
+    @Test
+    void doFilter_shouldNotCacheUnparseableAccept() throws Exception {
+        poll(null, "not a media type");
+        poll(null, "not a media type");
+
+        assertEquals(2, computed.get());
+    }
+
+    private MockHttpServletResponse poll(String ifNoneMatch) throws Exception {
+        return poll(ifNoneMatch, null);
+    }
+
+    private MockHttpServletResponse poll(String ifNoneMatch, String accept) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", TOP_EARNERS);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        responseCacheFilter.doFilter(request, response, endpoint);
+        return response;
+    }
+
+    private static EmployeeDTO employee(String name) {
+        return new EmployeeDTO(UUID.randomUUID(), name, 100_000, 40, "Engineer", null);
+    }
+}
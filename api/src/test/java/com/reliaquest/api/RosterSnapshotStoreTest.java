@@ -0,0 +1,75 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.cache.RosterSnapshotStore;
+import com.reliaquest.api.dto.EmployeeDTO;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterSnapshotStoreTest {
+
+    private final RosterSnapshotStore rosterSnapshotStore = new RosterSnapshotStore();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeAndRead_shouldRoundTripEmployees() throws Exception {
+        Path path = tempDir.resolve("roster.snapshot");
+        Instant refreshedAt = Instant.now().minus(5, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS);
+        List<EmployeeDTO> employees = List.of(
+                new EmployeeDTO(UUID.randomUUID(), "Zo\u00eb M\u00fcller", 120_000, 41, "Engineer", "zoe@company.com"),
+                new EmployeeDTO(UUID.randomUUID(), "John Doe", null, 35, null, null));
+
+        rosterSnapshotStore.write(path, employees, refreshedAt);
+        Optional<RosterSnapshot> snapshot = rosterSnapshotStore.read(path);
+
+        assertTrue(snapshot.isPresent());
+        assertEquals(employees, snapshot.get().getEmployees());
+        assertEquals(refreshedAt, snapshot.get().getRefreshedAt());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void read_shouldRejectCorruptedSnapshot() throws Exception {
+        Path path = tempDir.resolve("roster.snapshot");
+        rosterSnapshotStore.write(
+                path,
+                List.of(new EmployeeDTO(UUID.randomUUID(), "John Doe", 90_000, 35, "Engineer", "john@company.com")),
+                Instant.now());
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(path, bytes);
+
+        assertFalse(rosterSnapshotStore.read(path).isPresent());
+        assertFalse(rosterSnapshotStore.read(tempDir.resolve("missing.snapshot")).isPresent());
+    }
+
+    @Test
+    void restore_shouldLoadSnapshotAsStaleRoster() {
+        EmployeeRosterCache employeeRosterCache = new EmployeeRosterCache(List.of());
+        EmployeeDTO employee =
+                new EmployeeDTO(UUID.randomUUID(), "John Doe", 90_000, 35, "Engineer", "john@company.com");
+
+        employeeRosterCache.restore(new RosterSnapshot(List.of(employee), Instant.now().minus(Duration.ofHours(1))));
+
+        assertTrue(employeeRosterCache.isLoaded());
+        assertTrue(employeeRosterCache.isStale(Duration.ofSeconds(30)));
+        assertEquals(Optional.of(employee), employeeRosterCache.get(employee.getId()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.index.SalaryRankIndex;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SalaryRankIndexTest {
+
+    private SalaryRankIndex salaryRankIndex;
+    private EmployeeRosterCache employeeRosterCache;
+
+    @BeforeEach
+    void setUp() {
+        salaryRankIndex = new SalaryRankIndex();
+        employeeRosterCache = new EmployeeRosterCache(List.of(salaryRankIndex));
+    }
+
+    @Test
+    void highestAndLowest_shouldMatchFullSort() {
+        Random random = new Random(42);
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            employees.add(employee("Employee " + i, 30_000 + random.nextInt(470_000)));
+        }
+        employeeRosterCache.replaceAll(employees);
+
+        List<Integer> sorted = employees.stream()
+                .map(EmployeeDTO::getEmployeeSalary)
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+
+        assertEquals(sorted.subList(0, 100), salaries(salaryRankIndex.highest(0, 100)));
+        assertEquals(sorted.subList(4_900, 5_000), salaries(salaryRankIndex.highest(4_900, 500)));
+        assertEquals(sorted.get(4_999), salaryRankIndex.lowest(0, 1).get(0).getEmployeeSalary());
+        assertEquals(sorted.get(0), salaryRankIndex.highestSalary().getAsInt());
+    }
+
+    @Test
+    void rankOf_shouldShareRankForEqualSalaries() {
+        EmployeeDTO alice = employee("Alice", 90_000);
+        EmployeeDTO bob = employee("Bob", 70_000);
+        EmployeeDTO charlie = employee("Charlie", 70_000);
+        EmployeeDTO dave = employee("Dave", 50_000);
+        employeeRosterCache.replaceAll(List.of(alice, bob, charlie, dave));
+
+        assertEquals(1, salaryRankIndex.rankOf(alice).getAsInt());
+        assertEquals(2, salaryRankIndex.rankOf(bob).getAsInt());
+        assertEquals(2, salaryRankIndex.rankOf(charlie).getAsInt());
+        assertEquals(4, salaryRankIndex.rankOf(dave).getAsInt());
+
+        employeeRosterCache.remove(alice.getId());
+
+        assertEquals(1, salaryRankIndex.rankOf(bob).getAsInt());
+        assertTrue(salaryRankIndex.rankOf(alice).isEmpty());
+        assertEquals(3, salaryRankIndex.size());
+    }
+
+    private static List<Integer> salaries(List<EmployeeDTO> employees) {
+        return employees.stream().map(EmployeeDTO::getEmployeeSalary).collect(Collectors.toList());
+    }
+
+    private static EmployeeDTO employee(String name, int salary) {
+        return new EmployeeDTO(UUID.randomUUID(), name, salary, 30, "Engineer", null);
+    }
+}
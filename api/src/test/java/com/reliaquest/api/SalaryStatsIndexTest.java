@@ -0,0 +1,92 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.SalaryGroupStatsDTO;
+import com.reliaquest.api.dto.SalaryHistogramDTO;
+import com.reliaquest.api.dto.SalaryPercentilesDTO;
+import com.reliaquest.api.index.SalaryStatsIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SalaryStatsIndexTest {
+
+    private SalaryStatsIndex salaryStatsIndex;
+    private EmployeeRosterCache employeeRosterCache;
+
+    @BeforeEach
+    void setUp() {
+        salaryStatsIndex = new SalaryStatsIndex(0.01, 10);
+        employeeRosterCache = new EmployeeRosterCache(List.of(salaryStatsIndex));
+    }
+
+    @Test
+    void percentiles_shouldStayWithinRelativeAccuracy() {
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int salary = 1; salary <= 1000; salary++) {
+            employees.add(employee(salary * 1000, 30, "Engineer"));
+        }
+        employeeRosterCache.replaceAll(employees);
+
+        SalaryPercentilesDTO result = salaryStatsIndex.percentiles(List.of(50.0, 90.0, 99.0));
+
+        assertEquals(1000L, result.getEmployeeCount());
+        assertWithinOnePercent(500_000, result.getPercentiles().get("p50"));
+        assertWithinOnePercent(900_000, result.getPercentiles().get("p90"));
+        assertWithinOnePercent(990_000, result.getPercentiles().get("p99"));
+    }
+
+    @Test
+    void statsByTitle_shouldFollowIncrementalRosterChanges() {
+        EmployeeDTO alice = employee(100_000, 30, "Engineer");
+        EmployeeDTO bob = employee(50_000, 41, "Engineer");
+        EmployeeDTO charlie = employee(70_000, 45, "Astronomer");
+        employeeRosterCache.replaceAll(List.of(alice, bob, charlie));
+
+        employeeRosterCache.remove(alice.getId());
+        employeeRosterCache.put(employee(60_000, 25, "Engineer"));
+
+        List<SalaryGroupStatsDTO> byTitle = salaryStatsIndex.statsByTitle();
+        assertEquals(2, byTitle.size());
+        assertEquals("Astronomer", byTitle.get(0).getGroup());
+        assertEquals("Engineer", byTitle.get(1).getGroup());
+        assertEquals(2L, byTitle.get(1).getEmployeeCount());
+        assertEquals(55_000, byTitle.get(1).getAverageSalary());
+
+        List<SalaryGroupStatsDTO> byAgeBand = salaryStatsIndex.statsByAgeBand();
+        assertEquals("20-29", byAgeBand.get(0).getGroup());
+        assertEquals("40-49", byAgeBand.get(1).getGroup());
+        assertEquals(2L, byAgeBand.get(1).getEmployeeCount());
+    }
+
+    @Test
+    void histogram_shouldCountEveryEmployeeOnce() {
+        employeeRosterCache.replaceAll(List.of(
+                employee(30_000, 20, "Engineer"), employee(120_000, 30, "Engineer"), employee(480_000, 50, "CEO")));
+
+        SalaryHistogramDTO histogram = salaryStatsIndex.histogram(100_000);
+
+        assertEquals(3L, histogram.getEmployeeCount());
+        assertEquals(
+                3L,
+                histogram.getBuckets().stream()
+                        .mapToLong(SalaryHistogramDTO.Bucket::getCount)
+                        .sum());
+        assertEquals(0, histogram.getBuckets().get(0).getLowerBound());
+        assertEquals(400_000, histogram.getBuckets().get(2).getLowerBound());
+    }
+
+    private static void assertWithinOnePercent(int expected, Integer actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.01, "Expected ~" + expected + " but was " + actual);
+    }
+
+    private static EmployeeDTO employee(int salary, int age, String title) {
+        return new EmployeeDTO(UUID.randomUUID(), "Employee " + salary, salary, age, title, null);
+    }
+}
@@ -0,0 +1,148 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.errorhandlers.APIException;
+import com.reliaquest.api.service.StaleRosterFallback;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpServerErrorException;
+
+class StaleRosterFallbackTest {
+
+    private final EmployeeDTO employee =
+            new EmployeeDTO(UUID.randomUUID(), "John Doe", 120_000, 41, "Engineer", "john@company.com");
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("test");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmployeeRosterCache employeeRosterCache;
+    private StaleRosterFallback staleRosterFallback;
+
+    @BeforeEach
+    void setUp() {
+        employeeRosterCache = new EmployeeRosterCache(List.of());
+        staleRosterFallback = new StaleRosterFallback(employeeRosterCache, circuitBreaker, meterRegistry);
+    }
+
+    @Test
+    void serve_shouldReturnLiveResultWithoutStalenessHeaders() {
+        ResponseEntity<EmployeeDTO> response =
+                staleRosterFallback.serve("employee-by-id", () -> employee, roster -> Optional.empty());
+
+        assertSame(employee, response.getBody());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.AGE));
+    }
+
+    @Test
+    void serve_shouldServeStaleRosterWhileBreakerIsOpen() {
+        employeeRosterCache.restore(
+                new RosterSnapshot(List.of(employee), Instant.now().minus(2, ChronoUnit.MINUTES)));
+        circuitBreaker.transitionToOpenState();
+
+        ResponseEntity<EmployeeDTO> response =
+                staleRosterFallback.serve("employee-by-id", notPermitted(), roster -> roster.get(employee.getId()));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(employee, response.getBody());
+        assertEquals(120, Long.parseLong(response.getHeaders().getFirst(HttpHeaders.AGE)), 5);
+        assertEquals("110 - \"Response is Stale\"", response.getHeaders().getFirst(HttpHeaders.WARNING));
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .counter("employee.api.fallback.served", "endpoint", "employee-by-id")
+                        .count());
+    }
+
+    @Test
+    void serve_shouldRethrowWhenNothingStaleToServe() {
+        circuitBreaker.transitionToOpenState();
+
+        assertThrows(
+                CallNotPermittedException.class,
+                () -> staleRosterFallback.serve("all-employees", notPermitted(), roster -> Optional.of(List.of())));
+    }
+
+    @Test
+    void serve_shouldRethrowClientErrorsEvenWhileBreakerIsOpen() {
+        employeeRosterCache.restore(new RosterSnapshot(List.of(employee), Instant.now()));
+        circuitBreaker.transitionToOpenState();
+
+        assertThrows(
+                APIException.class,
+                () -> staleRosterFallback.serve(
+                        "employee-by-id",
+                        () -> {
+                            throw new APIException("object.not.found", new Object[] {}, HttpStatus.NOT_FOUND);
+                        },
+                        roster -> roster.get(employee.getId())));
+    }
+
+    @Test
+    void serve_shouldRethrowUpstreamFailuresWhileBreakerIsClosed() {
+        employeeRosterCache.restore(new RosterSnapshot(List.of(employee), Instant.now()));
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> staleRosterFallback.serve(
+                        "all-employees",
+                        () -> {
+                            throw new IllegalStateException("upstream down");
+                        },
+                        roster -> Optional.of(List.copyOf(roster.getEmployees()))));
+    }
+
+    @Test
+    void serve_shouldServeStaleRosterOnUpstreamUnavailableWhileBreakerIsOpen() {
+        employeeRosterCache.restore(new RosterSnapshot(List.of(employee), Instant.now()));
+        circuitBreaker.transitionToOpenState();
+
+        ResponseEntity<EmployeeDTO> response = staleRosterFallback.serve(
+                "employee-by-id",
+                () -> {
+                    throw HttpServerErrorException.create(
+                            HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", null, null, null);
+                },
+                roster -> roster.get(employee.getId()));
+
+        assertSame(employee, response.getBody());
+        assertEquals("110 - \"Response is Stale\"", response.getHeaders().getFirst(HttpHeaders.WARNING));
+    }
+
+    @Test
+    void serve_shouldRethrowUnrelatedFailuresEvenWhileBreakerIsOpen() {
+        employeeRosterCache.restore(new RosterSnapshot(List.of(employee), Instant.now()));
+        circuitBreaker.transitionToOpenState();
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> staleRosterFallback.serve(
+                        "all-employees",
+                        () -> {
+                            throw new IllegalStateException("mapping failed");
+                        },
+                        roster -> Optional.of(List.copyOf(roster.getEmployees()))));
+    }
+
+    private <T> Supplier<T> notPermitted() {
+        return () -> {
+            throw CallNotPermittedException.createCallNotPermittedException(circuitBreaker);
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.util.UUIDParser;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UUIDParserTest {
+
+    @Test
+    void parse_shouldMatchUUIDFromString() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 10_000; i++) {
+            UUID expected = new UUID(random.nextLong(), random.nextLong());
+
+            assertEquals(expected, UUIDParser.parse(expected.toString()));
+            assertEquals(expected, UUIDParser.parse(expected.toString().toUpperCase()));
+        }
+    }
+
+    @Test
+    void parse_shouldReturnNullForInvalidInput() {
+        assertNull(UUIDParser.parse(null));
+        assertNull(UUIDParser.parse(""));
+        assertNull(UUIDParser.parse("invalid-uuid"));
+        assertNull(UUIDParser.parse("1-2-3-4-5"));
+        assertNull(UUIDParser.parse("123e4567-e89b-12d3-a456-42661417400"));
+        assertNull(UUIDParser.parse("123e4567-e89b-12d3-a456-4266141740000"));
+        assertNull(UUIDParser.parse("123e4567e89b-12d3-a456-4266141740000"));
+        assertNull(UUIDParser.parse("123e4567-e89b-12d3-a456-42661417400g"));
+        assertNull(UUIDParser.parse("123e4567-e89b-12d3-a456-42661417400\u0660"));
+        assertNull(UUIDParser.parse("+23e4567-e89b-12d3-a456-426614174000"));
+    }
+
+    @Test
+    void isValid_shouldAcceptOnlyCanonicalForm() {
+        assertTrue(UUIDParser.isValid("123e4567-e89b-12d3-a456-426614174000"));
+        assertTrue(UUIDParser.isValid("FFFFFFFF-FFFF-FFFF-FFFF-FFFFFFFFFFFF"));
+        assertFalse(UUIDParser.isValid("{123e4567-e89b-12d3-a456-426614174000}"));
+    }
+}
@@ -0,0 +1,157 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.repository.RequestDeadline;
+import com.reliaquest.api.repository.UpstreamCallExecutor;
+import com.reliaquest.api.repository.UpstreamOperation;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.RetryConfig;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class UpstreamCallExecutorTest {
+
+    private CircuitBreaker circuitBreaker;
+    private UpstreamCallExecutor upstreamCallExecutor;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.ofDefaults("test");
+        RetryConfig retryConfig = RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(10))
+                .retryExceptions(HttpClientErrorException.TooManyRequests.class)
+                .build();
+        upstreamCallExecutor = new UpstreamCallExecutor(retryConfig, circuitBreaker, 0.2, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void execute_shouldRetryEachAttemptThroughCircuitBreaker() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = upstreamCallExecutor.execute(UpstreamOperation.READ, "test call", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw tooManyRequests(null);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        assertEquals(2, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfSuccessfulCalls());
+    }
+
+    @Test
+    void execute_shouldNotRetryNonRetryableExceptions() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(
+                HttpClientErrorException.NotFound.class,
+                () -> upstreamCallExecutor.execute(UpstreamOperation.READ, "test call", () -> {
+                    calls.incrementAndGet();
+                    throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+                }));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_shouldHonourRetryAfter() {
+        AtomicInteger calls = new AtomicInteger();
+        long started = System.nanoTime();
+
+        upstreamCallExecutor.execute(UpstreamOperation.READ, "test call", () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw tooManyRequests("1");
+            }
+            return "ok";
+        });
+
+        assertEquals(2, calls.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() >= 1000);
+    }
+
+    @Test
+    void execute_shouldGiveUpWhenRetryAfterExceedsDeadline() {
+        AtomicInteger calls = new AtomicInteger();
+        RequestDeadline.start(Duration.ofMillis(500));
+        long started = System.nanoTime();
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> upstreamCallExecutor.execute(
+                UpstreamOperation.READ, "test call", () -> {
+                    calls.incrementAndGet();
+                    throw tooManyRequests("3");
+                }));
+        assertEquals(1, calls.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 500);
+    }
+
+    @Test
+    void execute_shouldIsolateReadsFromWrites() throws Exception {
+        BulkheadConfig single = BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+        CircuitBreaker writeCircuitBreaker = CircuitBreaker.ofDefaults("write");
+        UpstreamCallExecutor isolated = new UpstreamCallExecutor(
+                RetryConfig.custom().maxAttempts(1).build(),
+                Map.of(UpstreamOperation.READ, circuitBreaker, UpstreamOperation.WRITE, writeCircuitBreaker),
+                Map.of(
+                        UpstreamOperation.READ, Bulkhead.of("read", single),
+                        UpstreamOperation.WRITE, Bulkhead.of("write", single)),
+                0,
+                Duration.ZERO);
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch releaseRead = new CountDownLatch(1);
+        Thread reader = new Thread(() -> isolated.execute(UpstreamOperation.READ, "slow read", () -> {
+            readStarted.countDown();
+            try {
+                return releaseRead.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        reader.start();
+        assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+
+        try {
+            assertThrows(
+                    BulkheadFullException.class, () -> isolated.execute(UpstreamOperation.READ, "read", () -> "ok"));
+            assertEquals("ok", isolated.execute(UpstreamOperation.WRITE, "write", () -> "ok"));
+            assertEquals(0, writeCircuitBreaker.getMetrics().getNumberOfFailedCalls());
+        } finally {
+            releaseRead.countDown();
+            reader.join();
+        }
+    }
+
+    private static HttpClientErrorException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0], StandardCharsets.UTF_8);
+    }
+}
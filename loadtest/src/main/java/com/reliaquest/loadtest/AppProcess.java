@@ -0,0 +1,122 @@
+package com.reliaquest.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+
+/*
+ * A Spring Boot application started as a process of its own (executable jar or native executable). Its output is
+ * drained on a daemon thread, which picks the "Started ... in" line out of it.
+ */
+public class AppProcess implements AutoCloseable {
+
+    private static final Pattern STARTED =
+            Pattern.compile("Started \\w+ in ([\\d.]+) seconds \\(process running for ([\\d.]+)\\)");
+
+    private final Process process;
+    private final long launchedNanos = System.nanoTime();
+    private final CompletableFuture<Matcher> started = new CompletableFuture<>();
+    private volatile long startedNanos;
+
+    @Getter
+    private Duration startup;
+
+    @Getter
+    private double reportedStartupSeconds;
+
+    private AppProcess(Process process) {
+        this.process = process;
+        Thread drain = new Thread(this::drain, "drain-" + process.pid());
+        drain.setDaemon(true);
+        drain.start();
+    }
+
+    public static AppProcess launch(List<String> command) {
+        try {
+            return new AppProcess(new ProcessBuilder(command).redirectErrorStream(true).start());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot launch " + command.get(0), e);
+        }
+    }
+
+    public static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No free port", e);
+        }
+    }
+
+    public AppProcess awaitStarted(Duration timeout) throws InterruptedException {
+        try {
+            Matcher matcher = started.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            startup = Duration.ofNanos(startedNanos - launchedNanos);
+            reportedStartupSeconds = Double.parseDouble(matcher.group(1));
+            return this;
+        } catch (TimeoutException | ExecutionException e) {
+            close();
+            throw new IllegalStateException("Not started within " + timeout + ": " + process.info().command(), e);
+        }
+    }
+
+    /* Resident set size in megabytes, read from /proc, so only known on Linux (-1 elsewhere) */
+    public long residentMegabytes() {
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) / 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            /* Not on Linux, or the process is gone */
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        try (BufferedReader reader =
+                new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!started.isDone()) {
+                    Matcher matcher = STARTED.matcher(line);
+                    if (matcher.find()) {
+                        startedNanos = System.nanoTime();
+                        started.complete(matcher);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            /* The process went away */
+        }
+        started.completeExceptionally(new IllegalStateException("Exited before it started"));
+    }
+}
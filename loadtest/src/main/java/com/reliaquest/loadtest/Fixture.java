@@ -0,0 +1,62 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.random.RandomGenerator;
+import lombok.Getter;
+
+/*
+ * What the clients pick their requests from: the ids and name fragments of the roster as it was before the run, and
+ * the ids of employees the run created and has not deleted yet.
+ */
+public class Fixture {
+
+    @Getter
+    private final URI baseUri;
+
+    @Getter
+    private final ObjectMapper objectMapper;
+
+    private final List<String> ids = new ArrayList<>();
+    private final List<String> nameFragments = new ArrayList<>();
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+
+    public Fixture(URI baseUri, ObjectMapper objectMapper, JsonNode roster) {
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        for (JsonNode employee : roster) {
+            ids.add(employee.path("id").asText());
+            String name = employee.path("employee_name").asText();
+            nameFragments.add(name.substring(0, Math.min(3, name.length())));
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("The roster is empty, nothing to drive reads with");
+        }
+    }
+
+    public String anyId(RandomGenerator random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    public String anyNameFragment(RandomGenerator random) {
+        return nameFragments.get(random.nextInt(nameFragments.size()));
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public void created(String id) {
+        created.add(id);
+    }
+
+    /* An employee created by this run, which is then no longer handed out, or null when there is none */
+    public String takeCreated() {
+        return created.poll();
+    }
+}
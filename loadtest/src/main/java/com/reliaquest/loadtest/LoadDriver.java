@@ -0,0 +1,102 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Closed-loop clients: each sends its next request as soon as the previous one is answered, so throughput is what the
+ * api sustains at the given concurrency. Requests during the warm-up are sent but not recorded.
+ */
+@RequiredArgsConstructor
+public class LoadDriver {
+
+    private final LoadTestOptions options;
+    private final Fixture fixture;
+
+    public LoadReport run() throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(options.getClients(), runnable -> {
+            Thread thread = new Thread(runnable, "load-client-" + threads.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        SplittableRandom seeds = new SplittableRandom();
+        long startedNanos = System.nanoTime();
+        long measuredFrom = startedNanos + options.getWarmup().toNanos();
+        long measuredUntil = measuredFrom + options.getDuration().toNanos();
+        List<Callable<Map<Operation, OperationStats>>> tasks = new ArrayList<>();
+        for (int i = 0; i < options.getClients(); i++) {
+            SplittableRandom random = seeds.split();
+            tasks.add(() -> drive(httpClient, random, startedNanos, measuredFrom, measuredUntil));
+        }
+        try {
+            Map<Operation, OperationStats> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, OperationStats>> result : clients.invokeAll(tasks)) {
+                result.get().forEach((operation, stats) ->
+                        merged.computeIfAbsent(operation, key -> new OperationStats()).merge(stats));
+            }
+            return new LoadReport(options, merged);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load client failed", e.getCause());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private Map<Operation, OperationStats> drive(
+            HttpClient httpClient, SplittableRandom random, long startedNanos, long measuredFrom, long measuredUntil) {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        long now = System.nanoTime();
+        while (now < measuredUntil && !Thread.currentThread().isInterrupted()) {
+            Operation operation = options.getWorkload().next(random, Duration.ofNanos(now - startedNanos), options);
+            HttpRequest.Builder request = operation.request(fixture, random);
+            if (Objects.isNull(request)) {
+                operation = Operation.CREATE;
+                request = operation.request(fixture, random);
+            }
+            long sent = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = httpClient.send(
+                        request.timeout(options.getRequestTimeout()).build(), HttpResponse.BodyHandlers.ofByteArray());
+                now = System.nanoTime();
+                if (response.statusCode() / 100 == 2) {
+                    operation.onSuccess(fixture, response.body());
+                }
+                if (sent >= measuredFrom) {
+                    stats.computeIfAbsent(operation, key -> new OperationStats())
+                            .record(response.statusCode(), TimeUnit.NANOSECONDS.toMicros(now - sent));
+                }
+            } catch (IOException e) {
+                now = System.nanoTime();
+                if (sent >= measuredFrom) {
+                    stats.computeIfAbsent(operation, key -> new OperationStats())
+                            .recordFailure(TimeUnit.NANOSECONDS.toMicros(now - sent));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return stats;
+    }
+}
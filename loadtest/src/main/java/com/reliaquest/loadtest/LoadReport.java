@@ -0,0 +1,66 @@
+package com.reliaquest.loadtest;
+
+import java.util.Locale;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* Throughput, latency percentiles (milliseconds) and 429/503 rates per operation and over all of them. */
+@Getter
+@RequiredArgsConstructor
+public class LoadReport {
+
+    private static final String ROW = "%-18s %9s %9s %8s %8s %8s %8s %8s %7s %7s %7s %7s%n";
+
+    private final LoadTestOptions options;
+    private final Map<Operation, OperationStats> operations;
+
+    public OperationStats total() {
+        OperationStats total = new OperationStats();
+        operations.values().forEach(total::merge);
+        return total;
+    }
+
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(
+                "Workload %s, %d clients, %s measured after %s warm-up%n%n",
+                options.getWorkload().label(),
+                options.getClients(),
+                options.getDuration(),
+                options.getWarmup()));
+        report.append(String.format(
+                ROW, "operation", "requests", "req/s", "p50", "p90", "p99", "p99.9", "max", "2xx", "429", "503",
+                "errors"));
+        operations.forEach(
+                (operation, stats) -> report.append(row(operation.name().toLowerCase(Locale.ROOT), stats)));
+        report.append(row("total", total()));
+        return report.toString();
+    }
+
+    private String row(String name, OperationStats stats) {
+        double seconds = options.getDuration().toNanos() / 1e9;
+        return String.format(
+                ROW,
+                name,
+                stats.getRequests(),
+                String.format("%.1f", stats.getRequests() / seconds),
+                millis(stats.percentile(0.5)),
+                millis(stats.percentile(0.9)),
+                millis(stats.percentile(0.99)),
+                millis(stats.percentile(0.999)),
+                millis(stats.getMaxLatency()),
+                rate(stats.getSuccessful(), stats),
+                rate(stats.getTooManyRequests(), stats),
+                rate(stats.getUnavailable(), stats),
+                rate(stats.getClientErrors() + stats.getServerErrors() + stats.getFailures(), stats));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+
+    private static String rate(long count, OperationStats stats) {
+        return stats.getRequests() == 0 ? "-" : String.format("%.1f%%", 100.0 * count / stats.getRequests());
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/*
+ * Starts the mock server and the api in this JVM on random ports, points the api at the server and drives the chosen
+ * workload against the api. Both modules share the classpath, so each is pinned to its own configuration file.
+ *
+ * ./gradlew :loadtest:loadTest -PloadTestArgs="--workload=write-burst --clients=64 --duration=60s"
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    private static final List<String> QUIET = List.of(
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=WARN",
+            "--logging.level.com.reliaquest=WARN",
+            "--logging.level.com.reliaquest.loadtest=INFO");
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ConfigurableApplicationContext server = start(
+                        ServerApplication.class,
+                        List.of(
+                                "--spring.config.location=classpath:application.yml",
+                                "--server.port=0",
+                                /* The mock server throttles at random by default, which makes runs incomparable */
+                                "--mock.limit.algorithm=none"),
+                        options.getServerArgs());
+                ConfigurableApplicationContext api = start(
+                        ApiApplication.class,
+                        List.of(
+                                "--spring.config.location=classpath:application.properties",
+                                "--server.port=0",
+                                "--management.server.port=0",
+                                "--app.snapshot.enabled=false",
+                                "--app.mock-employee-service.url=http://localhost:" + port(server)),
+                        options.getApiArgs())) {
+            URI baseUri = URI.create("http://localhost:" + port(api));
+            ObjectMapper objectMapper = new ObjectMapper();
+            Fixture fixture = new Fixture(baseUri, objectMapper, roster(baseUri, objectMapper));
+            log.info(
+                    "Driving {} against {} with {} clients, roster of {} employees",
+                    options.getWorkload().label(),
+                    baseUri,
+                    options.getClients(),
+                    fixture.size());
+            LoadReport report = new LoadDriver(options, fixture).run();
+            System.out.println(report.format());
+        }
+    }
+
+    /* Defaults are dropped when the same property is given on the command line, Spring would join both values */
+    private static ConfigurableApplicationContext start(
+            Class<?> application, List<String> defaults, List<String> args) {
+        List<String> merged = new ArrayList<>(args);
+        for (String argument : defaults) {
+            String key = argument.substring(0, argument.indexOf('=') + 1);
+            if (args.stream().noneMatch(arg -> arg.startsWith(key))) {
+                merged.add(argument);
+            }
+        }
+        merged.addAll(QUIET);
+        return new SpringApplicationBuilder(application).run(merged.toArray(String[]::new));
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    static JsonNode roster(URI baseUri, ObjectMapper objectMapper) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = HttpClient.newHttpClient()
+                .send(
+                        HttpRequest.newBuilder(baseUri.resolve(Operation.EMPLOYEE_PATH))
+                                .GET()
+                                .build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Cannot load the roster, the api answered " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
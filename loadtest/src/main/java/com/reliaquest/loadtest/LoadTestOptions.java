@@ -0,0 +1,62 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.convert.DurationStyle;
+
+/*
+ * Command line of the load test, all --key=value. Properties starting with mock. are handed to the mock server and
+ * those starting with app., resilience4j. or management. to the api, so both can be tuned per run, e.g.
+ * --mock.limit.algorithm=token-bucket --app.batching.enabled=true.
+ */
+@Data
+public class LoadTestOptions {
+
+    private Workload workload = Workload.READ_HEAVY;
+    private int clients = 32;
+    private Duration warmup = Duration.ofSeconds(5);
+    private Duration duration = Duration.ofSeconds(30);
+    private Duration burstInterval = Duration.ofSeconds(10);
+    private Duration burstLength = Duration.ofSeconds(2);
+    private Duration requestTimeout = Duration.ofSeconds(15);
+    private List<String> serverArgs = new ArrayList<>();
+    private List<String> apiArgs = new ArrayList<>();
+
+    public static LoadTestOptions parse(String... args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            String key = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (key) {
+                case "workload" -> options.workload = Workload.of(value);
+                case "clients" -> options.clients = Integer.parseInt(value);
+                case "warmup" -> options.warmup = DurationStyle.detectAndParse(value);
+                case "duration" -> options.duration = DurationStyle.detectAndParse(value);
+                case "burst-interval" -> options.burstInterval = DurationStyle.detectAndParse(value);
+                case "burst-length" -> options.burstLength = DurationStyle.detectAndParse(value);
+                case "request-timeout" -> options.requestTimeout = DurationStyle.detectAndParse(value);
+                default -> {
+                    if (key.startsWith("mock.")) {
+                        options.serverArgs.add(arg);
+                    } else if (key.startsWith("app.")
+                            || key.startsWith("resilience4j.")
+                            || key.startsWith("management.")) {
+                        options.apiArgs.add(arg);
+                    } else {
+                        throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+                }
+            }
+        }
+        if (options.clients < 1) {
+            throw new IllegalArgumentException("At least one client is needed: " + options.clients);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Runs the api as a native executable and as an executable jar on the JVM, each against a fresh mock server process,
+ * and reports startup time, resident memory after startup and after the load, and the throughput and p99 latency the
+ * api sustains under the workload (after its warm-up). Takes the load test options plus the paths of the builds:
+ *
+ * --server-jar=server.jar --api-jar=api.jar --api-native=api [--workload=... --clients=... --duration=...]
+ */
+@Slf4j
+public class NativeComparison {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String ROW = "%-8s %12s %12s %14s %14s %10s %9s%n";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> builds = new LinkedHashMap<>();
+        List<String> loadTestArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--server-jar=") || arg.startsWith("--api-jar=") || arg.startsWith("--api-native=")) {
+                builds.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else {
+                loadTestArgs.add(arg);
+            }
+        }
+        LoadTestOptions options = LoadTestOptions.parse(loadTestArgs.toArray(String[]::new));
+        String java = ProcessHandle.current().info().command().orElse("java");
+        String serverJar = required(builds, "server-jar");
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("jvm", List.of(java, "-jar", required(builds, "api-jar")));
+        variants.put("native", List.of(required(builds, "api-native")));
+
+        StringBuilder report = new StringBuilder(String.format(
+                "Workload %s, %d clients, %s measured after %s warm-up%n%n",
+                options.getWorkload().label(),
+                options.getClients(),
+                options.getDuration(),
+                options.getWarmup()));
+        report.append(String.format(
+                ROW, "api", "startup s", "reported s", "RSS start MB", "RSS load MB", "req/s", "p99 ms"));
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            int serverPort = AppProcess.freePort();
+            List<String> server = new ArrayList<>(List.of(java, "-jar", serverJar, "--server.port=" + serverPort));
+            server.addAll(options.getServerArgs());
+            if (options.getServerArgs().stream().noneMatch(arg -> arg.startsWith("--mock.limit.algorithm="))) {
+                server.add("--mock.limit.algorithm=none");
+            }
+            int apiPort = AppProcess.freePort();
+            List<String> api = new ArrayList<>(variant.getValue());
+            api.addAll(List.of(
+                    /* The native image is built for the faststart profile, see processAot of the api */
+                    "--spring.profiles.active=faststart",
+                    "--server.port=" + apiPort,
+                    "--management.server.port=" + AppProcess.freePort(),
+                    "--app.snapshot.enabled=false",
+                    "--app.mock-employee-service.url=http://localhost:" + serverPort));
+            api.addAll(options.getApiArgs());
+
+            try (AppProcess mockServer = AppProcess.launch(server).awaitStarted(STARTUP_TIMEOUT);
+                    AppProcess apiProcess = AppProcess.launch(api).awaitStarted(STARTUP_TIMEOUT)) {
+                long startedRss = apiProcess.residentMegabytes();
+                URI baseUri = URI.create("http://localhost:" + apiPort);
+                ObjectMapper objectMapper = new ObjectMapper();
+                Fixture fixture =
+                        new Fixture(baseUri, objectMapper, LoadTestApplication.roster(baseUri, objectMapper));
+                log.info("Driving {} api with {}", variant.getKey(), options.getWorkload().label());
+                OperationStats total = new LoadDriver(options, fixture).run().total();
+                report.append(String.format(
+                        ROW,
+                        variant.getKey(),
+                        String.format("%.2f", apiProcess.getStartup().toMillis() / 1000.0),
+                        String.format("%.2f", apiProcess.getReportedStartupSeconds()),
+                        startedRss,
+                        apiProcess.residentMegabytes(),
+                        String.format("%.1f", total.getRequests() / (options.getDuration().toNanos() / 1e9)),
+                        String.format("%.1f", total.percentile(0.99) / 1000.0)));
+            }
+        }
+        System.out.println(report);
+    }
+
+    private static String required(Map<String, String> builds, String name) {
+        String path = builds.get(name);
+        if (path == null) {
+            throw new IllegalArgumentException("Missing --" + name + "=<path>");
+        }
+        return path;
+    }
+}
@@ -0,0 +1,117 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/* The api requests a workload is mixed from. */
+public enum Operation {
+    ALL_EMPLOYEES {
+        @Override
+        HttpRequest.Builder request(Fixture fixture, RandomGenerator random) {
+            return get(fixture, "");
+        }
+    },
+    EMPLOYEE_BY_ID {
+        @Override
+        HttpRequest.Builder request(Fixture fixture, RandomGenerator random) {
+            return get(fixture, "/" + fixture.anyId(random));
+        }
+    },
+    EMPLOYEES_BY_IDS {
+        @Override
+        HttpRequest.Builder request(Fixture fixture, RandomGenerator random) {
+            String ids = IntStream.range(0, 10)
+                    .mapToObj(i -> fixture.anyId(random))
+                    .collect(Collectors.joining(","));
+            return get(fixture, "/batch?ids=" + ids);
+        }
+    },
+    SEARCH {
+        @Override
+        HttpRequest.Builder request(Fixture fixture, RandomGenerator random) {
+            return get(fixture, "/search/" + encode(fixture.anyNameFragment(random)));
+        }
+    },
+    AUTOCOMPLETE {
+        @Override
+        HttpRequest.Builder request(Fixture fixture, RandomGenerator random) {
+            return get(fixture, "/names/autocomplete?prefix=" + encode(fixture.anyNameFragment(random)));
+        }
+    },
+    HIGHEST_SALARY {
+        @Override
+        HttpRequest.Builder request(Fixture fixture, RandomGenerator random) {
+            return get(fixture, "/highestSalary");
+        }
+    },
+    TOP_EARNERS {
+        @Override
+        HttpRequest.Builder request(Fixture fixture, RandomGenerator random) {
+            return get(fixture, "/topTenHighestEarningEmployeeNames");
+        }
+    },
+    CREATE {
+        @Override
+        HttpRequest.Builder request(Fixture fixture, RandomGenerator random) {
+            Map<String, Object> employee = Map.of(
+                    "name", "Load Test " + Long.toHexString(random.nextLong()),
+                    "salary", random.nextInt(30_000, 300_000),
+                    "age", random.nextInt(18, 70),
+                    "title", "Load Tester");
+            try {
+                return HttpRequest.newBuilder(uri(fixture, ""))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(
+                                fixture.getObjectMapper().writeValueAsBytes(employee)));
+            } catch (Exception e) {
+                throw new IllegalStateException("Cannot write employee request", e);
+            }
+        }
+
+        @Override
+        void onSuccess(Fixture fixture, byte[] body) {
+            try {
+                String id = fixture.getObjectMapper().readTree(body).path("id").asText(null);
+                if (Objects.nonNull(id)) {
+                    fixture.created(id);
+                }
+            } catch (Exception e) {
+                /* The creation is counted all the same, the employee just won't be deleted again */
+            }
+        }
+    },
+    /* Deletes an employee the run created, there is no request when none is left */
+    DELETE {
+        @Override
+        HttpRequest.Builder request(Fixture fixture, RandomGenerator random) {
+            String id = fixture.takeCreated();
+            return Objects.isNull(id) ? null : HttpRequest.newBuilder(uri(fixture, "/" + id)).DELETE();
+        }
+    };
+
+    static final String EMPLOYEE_PATH = "/api/v2/employee";
+
+    /* The request to send, or null when the operation cannot be done right now */
+    abstract HttpRequest.Builder request(Fixture fixture, RandomGenerator random);
+
+    void onSuccess(Fixture fixture, byte[] body) {}
+
+    private static HttpRequest.Builder get(Fixture fixture, String path) {
+        return HttpRequest.newBuilder(uri(fixture, path)).GET();
+    }
+
+    private static URI uri(Fixture fixture, String path) {
+        return fixture.getBaseUri().resolve(EMPLOYEE_PATH + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.api.index.QuantileSketch;
+import lombok.Getter;
+
+/* Outcomes and latencies (in microseconds) of one operation. Each client keeps its own, they are merged at the end. */
+@Getter
+public class OperationStats {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+
+    private final QuantileSketch latencies = new QuantileSketch(RELATIVE_ACCURACY);
+    private long requests;
+    private long successful;
+    private long clientErrors;
+    private long tooManyRequests;
+    private long unavailable;
+    private long serverErrors;
+    private long failures;
+    private long maxLatency;
+
+    public void record(int status, long latencyMicros) {
+        requests++;
+        latencies.add(latencyMicros);
+        maxLatency = Math.max(maxLatency, latencyMicros);
+        if (status >= 200 && status < 300) {
+            successful++;
+        } else if (status == 429) {
+            tooManyRequests++;
+        } else if (status == 503) {
+            unavailable++;
+        } else if (status >= 500) {
+            serverErrors++;
+        } else {
+            clientErrors++;
+        }
+    }
+
+    /* No response at all: connection refused or reset, or the request timed out */
+    public void recordFailure(long latencyMicros) {
+        requests++;
+        failures++;
+        maxLatency = Math.max(maxLatency, latencyMicros);
+    }
+
+    public void merge(OperationStats other) {
+        latencies.merge(other.latencies);
+        requests += other.requests;
+        successful += other.successful;
+        clientErrors += other.clientErrors;
+        tooManyRequests += other.tooManyRequests;
+        unavailable += other.unavailable;
+        serverErrors += other.serverErrors;
+        failures += other.failures;
+        maxLatency = Math.max(maxLatency, other.maxLatency);
+    }
+
+    public long percentile(double quantile) {
+        return latencies.isEmpty() ? 0 : Math.round(latencies.quantile(quantile));
+    }
+}
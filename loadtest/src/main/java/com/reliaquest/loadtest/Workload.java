@@ -0,0 +1,64 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/*
+ * Weighted mixes of operations. WRITE_BURST reads like READ_HEAVY but switches every client to creates and deletes for
+ * burst-length at the start of every burst-interval.
+ */
+public enum Workload {
+    READ_HEAVY(Map.of(
+            Operation.EMPLOYEE_BY_ID, 50,
+            Operation.ALL_EMPLOYEES, 15,
+            Operation.EMPLOYEES_BY_IDS, 10,
+            Operation.HIGHEST_SALARY, 10,
+            Operation.TOP_EARNERS, 10,
+            Operation.CREATE, 5)),
+    SEARCH_HEAVY(Map.of(
+            Operation.SEARCH, 50,
+            Operation.AUTOCOMPLETE, 30,
+            Operation.EMPLOYEE_BY_ID, 10,
+            Operation.ALL_EMPLOYEES, 10)),
+    WRITE_BURST(READ_HEAVY.weights);
+
+    private static final Operation[] BURST = expand(Map.of(Operation.CREATE, 60, Operation.DELETE, 40));
+
+    private final Map<Operation, Integer> weights;
+    private final Operation[] steady;
+
+    Workload(Map<Operation, Integer> weights) {
+        this.weights = weights;
+        this.steady = expand(weights);
+    }
+
+    public static Workload of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    public String label() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public Operation next(RandomGenerator random, Duration elapsed, LoadTestOptions options) {
+        Operation[] mix = this == WRITE_BURST && inBurst(elapsed, options) ? BURST : steady;
+        return mix[random.nextInt(mix.length)];
+    }
+
+    private static boolean inBurst(Duration elapsed, LoadTestOptions options) {
+        long interval = Math.max(1, options.getBurstInterval().toNanos());
+        return elapsed.toNanos() % interval < options.getBurstLength().toNanos();
+    }
+
+    /* One slot per unit of weight, so picking an operation is a single random index */
+    private static Operation[] expand(Map<Operation, Integer> weights) {
+        return new EnumMap<>(weights)
+                .entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Operation[]::new);
+    }
+}
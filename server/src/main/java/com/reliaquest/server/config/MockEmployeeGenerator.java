@@ -0,0 +1,95 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/*
+ * Bulk generator for the mock employee list. Faker is only used up front to fill small pools of names, titles and user
+ * names (each pool slice with its own Faker, since Faker is not thread-safe); rows are then assembled from the pools in
+ * parallel chunks. Every chunk draws from its own random stream derived from the seed, so a given seed always produces
+ * the same employees in the same order regardless of how the chunks are scheduled.
+ */
+public class MockEmployeeGenerator {
+
+    private static final int CHUNK_SIZE = 8_192;
+    private static final int POOL_SLICE_SIZE = 256;
+    private static final int MIN_SALARY = 30000;
+    private static final int MAX_SALARY = 500000;
+    private static final int MIN_AGE = 16;
+    private static final int MAX_AGE = 70;
+
+    private final long seed;
+    private final Locale locale;
+
+    public MockEmployeeGenerator(long seed, Locale locale) {
+        this.seed = seed;
+        this.locale = locale;
+    }
+
+    public List<MockEmployee> generate(int count) {
+        final var poolSize = Math.max(64, Math.min(count, 4_096));
+        final var firstNames = pool(poolSize, 1, faker -> faker.name().firstName());
+        final var lastNames = pool(poolSize, 2, faker -> faker.name().lastName());
+        final var titles = pool(Math.min(poolSize, 1_024), 3, faker -> faker.job().title());
+        final var userNames = pool(poolSize, 4, faker -> faker.twitter().userName().toLowerCase());
+
+        final var employees = new MockEmployee[count];
+        final var chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final var random = new SplittableRandom(mix(seed, chunk));
+            final var end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                employees[i] = MockEmployee.builder()
+                        .id(randomUuid(random))
+                        .name(pick(firstNames, random) + " " + pick(lastNames, random))
+                        .salary(random.nextInt(MIN_SALARY, MAX_SALARY))
+                        .age(random.nextInt(MIN_AGE, MAX_AGE))
+                        .title(pick(titles, random))
+                        .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(pick(userNames, random)))
+                        .build();
+            }
+        });
+        return new ArrayList<>(Arrays.asList(employees));
+    }
+
+    private String[] pool(int size, int salt, Function<Faker, String> value) {
+        final var pool = new String[size];
+        final var slices = (size + POOL_SLICE_SIZE - 1) / POOL_SLICE_SIZE;
+        IntStream.range(0, slices).parallel().forEach(slice -> {
+            final var faker = new Faker(locale, new Random(mix(seed, -(salt * 1_000_003L + slice))));
+            final var end = Math.min(size, (slice + 1) * POOL_SLICE_SIZE);
+            for (int i = slice * POOL_SLICE_SIZE; i < end; i++) {
+                pool[i] = value.apply(faker);
+            }
+        });
+        return pool;
+    }
+
+    private static String pick(String[] pool, SplittableRandom random) {
+        return pool[random.nextInt(pool.length)];
+    }
+
+    /* Random (version 4) UUID drawn from the chunk's stream rather than SecureRandom, to keep it reproducible. */
+    private static UUID randomUuid(SplittableRandom random) {
+        final var mostSignificantBits = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        final var leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /* SplitMix64 finalizer, spreads neighbouring stream indexes across the seed space. */
+    private static long mix(long seed, long stream) {
+        var z = seed + stream * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
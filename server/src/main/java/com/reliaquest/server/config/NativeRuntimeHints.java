@@ -0,0 +1,38 @@
+package com.reliaquest.server.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/* What a native image of the mock server reaches only by reflection or by name. */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String[] FAKER_PROVIDERS = {
+        "net.datafaker.Faker",
+        "net.datafaker.providers.base.BaseFaker",
+        "net.datafaker.providers.base.Name",
+        "net.datafaker.providers.base.Job",
+        "net.datafaker.providers.base.Twitter"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        /* Jackson instantiates the naming strategy named by @JsonNaming (package-private, hence by name) */
+        hints.reflection()
+                .registerType(
+                        TypeReference.of("com.reliaquest.server.model.MockEmployee$PrefixNamingStrategy"),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        /* Datafaker resolves #{Provider.method} expressions of its yml files reflectively, for the default locale */
+        for (String provider : FAKER_PROVIDERS) {
+            hints.reflection()
+                    .registerType(
+                            TypeReference.of(provider),
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                            MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("en/*.yml");
+        hints.resources().registerPattern("en.yml");
+    }
+}
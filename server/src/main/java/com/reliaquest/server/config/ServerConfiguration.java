@@ -1,59 +1,56 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.persistence.EmployeeJournal;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @Slf4j
 @Configuration
-public class ServerConfiguration implements WebMvcConfigurer {
+@ImportRuntimeHints(NativeRuntimeHints.class)
+public class ServerConfiguration {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
     @Bean
-    public Faker faker() {
-        return new Faker(Locale.getDefault());
+    public Faker faker(@Value("${mock.employees.seed:#{null}}") Long seed) {
+        return Objects.isNull(seed) ? new Faker(Locale.getDefault()) : new Faker(Locale.getDefault(), new Random(seed));
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * This list is modifiable by design for CRUD operations. With persistence enabled it is recovered from the journal
+     * rather than generated, and mutations must hold its lock so that the journal sees them in order.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public List<MockEmployee> mockEmployees(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            EmployeeJournal employeeJournal) {
+        final var mockEmployees =
+                employeeJournal.recover().orElseGet(() -> generateMockEmployees(maxEmployees, seed));
+        employeeJournal.attach(mockEmployees);
+        return mockEmployees;
     }
 
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+    private List<MockEmployee> generateMockEmployees(int maxEmployees, Long seed) {
+        final var effectiveSeed = Objects.nonNull(seed) ? seed : ThreadLocalRandom.current().nextLong();
+        final var started = System.nanoTime();
+        final var mockEmployees = new MockEmployeeGenerator(effectiveSeed, Locale.getDefault()).generate(maxEmployees);
+        log.info(
+                "Generated {} mock employees in {} ms (mock.employees.seed={})",
+                mockEmployees.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                effectiveSeed);
+        return mockEmployees;
     }
 }
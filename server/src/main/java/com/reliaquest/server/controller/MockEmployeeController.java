@@ -2,6 +2,7 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.FindMockEmployeesInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
@@ -39,6 +40,11 @@ public class MockEmployeeController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> getEmployeesById(@Valid @RequestBody FindMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.findAllById(input.getIds()));
+    }
+
     @PostMapping()
     public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.create(input));
@@ -0,0 +1,24 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * Durable record of the mock employee store. Mutations are recorded while holding the lock of the attached list, so
+ * implementations see them in the order they were applied.
+ */
+public interface EmployeeJournal {
+
+    EmployeeJournal NOOP = new EmployeeJournal() {};
+
+    default Optional<List<MockEmployee>> recover() {
+        return Optional.empty();
+    }
+
+    default void attach(List<MockEmployee> mockEmployees) {}
+
+    default void recordCreate(MockEmployee mockEmployee) {}
+
+    default void recordDelete(MockEmployee mockEmployee) {}
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/*
+ * Records are written through a DataOutput and decoded straight from a ByteBuffer, which keeps replay of large
+ * snapshots free of per-byte stream calls. Strings are length-prefixed UTF-8, with -1 standing for null.
+ */
+final class EmployeeRecordCodec {
+
+    private static final int NULL_LENGTH = -1;
+
+    private EmployeeRecordCodec() {}
+
+    static void writeId(DataOutput out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    static UUID readId(ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    static void writeEmployee(DataOutput out, MockEmployee mockEmployee) throws IOException {
+        writeId(out, mockEmployee.getId());
+        writeString(out, mockEmployee.getName());
+        writeInteger(out, mockEmployee.getSalary());
+        writeInteger(out, mockEmployee.getAge());
+        writeString(out, mockEmployee.getTitle());
+        writeString(out, mockEmployee.getEmail());
+    }
+
+    static MockEmployee readEmployee(ByteBuffer in) {
+        return MockEmployee.builder()
+                .id(readId(in))
+                .name(readString(in))
+                .salary(readInteger(in))
+                .age(readInteger(in))
+                .title(readString(in))
+                .email(readString(in))
+                .build();
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static void writeInteger(DataOutput out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        out.writeInt(value == null ? 0 : value);
+    }
+
+    private static Integer readInteger(ByteBuffer in) {
+        boolean present = in.get() != 0;
+        int value = in.getInt();
+        return present ? value : null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.server.persistence;
+
+public enum FsyncPolicy {
+    /* Force every record to disk before the request completes. */
+    ALWAYS,
+    /* Force outstanding records to disk on a fixed interval. */
+    INTERVAL,
+    /* Leave flushing to the operating system. */
+    NEVER
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.server.persistence;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PersistenceConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public EmployeeJournal writeAheadLogJournal(
+            @Value("${mock.persistence.directory:data}") String directory,
+            @Value("${mock.persistence.fsync:interval}") FsyncPolicy fsyncPolicy,
+            @Value("${mock.persistence.fsync-interval:1s}") Duration fsyncInterval,
+            @Value("${mock.persistence.snapshot-interval:5m}") Duration snapshotInterval,
+            @Value("${mock.persistence.compact-after-records:100000}") int compactAfterRecords) {
+        return new WriteAheadLogJournal(
+                Path.of(directory), fsyncPolicy, fsyncInterval, snapshotInterval, compactAfterRecords);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "false", matchIfMissing = true)
+    public EmployeeJournal noopEmployeeJournal() {
+        return EmployeeJournal.NOOP;
+    }
+}
@@ -0,0 +1,426 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Append-only log of creates and deletes, compacted into a snapshot of the whole store.
+ *
+ * Log segments are named wal-<sequence>.log and hold records of [length][crc32][type, payload]. A snapshot records the
+ * first segment it does not cover; compaction rotates to a new segment while holding the store lock, writes the
+ * snapshot, and only then drops the older segments. Replay is idempotent (keyed by id), so a record that is both in a
+ * snapshot and in a later segment is harmless, and a torn record at the tail of a segment is truncated away.
+ */
+@Slf4j
+public class WriteAheadLogJournal implements EmployeeJournal, AutoCloseable {
+
+    static final String SNAPSHOT_FILE = "employees.snapshot";
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int SNAPSHOT_MAGIC = 0x4D455331;
+    private static final short SNAPSHOT_VERSION = 1;
+    private static final byte CREATE = 1;
+    private static final byte DELETE = 2;
+    private static final int IO_BUFFER_BYTES = 1 << 16;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private final Path directory;
+    private final FsyncPolicy fsyncPolicy;
+    private final Duration fsyncInterval;
+    private final Duration snapshotInterval;
+    private final int compactAfterRecords;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean compactionPending = new AtomicBoolean();
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream(256);
+    private final DataOutputStream recordOut = new DataOutputStream(recordBuffer);
+    private final CRC32 recordCrc = new CRC32();
+
+    private List<MockEmployee> mockEmployees;
+    private FileChannel segment;
+    private long segmentSequence;
+    private int segmentRecords;
+    private boolean unsynced;
+    private boolean recovered;
+
+    public WriteAheadLogJournal(
+            Path directory,
+            FsyncPolicy fsyncPolicy,
+            Duration fsyncInterval,
+            Duration snapshotInterval,
+            int compactAfterRecords) {
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncInterval = fsyncInterval;
+        this.snapshotInterval = snapshotInterval;
+        this.compactAfterRecords = compactAfterRecords;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public synchronized Optional<List<MockEmployee>> recover() {
+        long started = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            Map<UUID, MockEmployee> employees = new LinkedHashMap<>();
+            long firstSegment = readSnapshot(employees);
+            recovered = firstSegment >= 0;
+            long records = 0;
+            for (long sequence : listSegments()) {
+                if (sequence < Math.max(firstSegment, 0)) {
+                    Files.deleteIfExists(segmentPath(sequence));
+                    continue;
+                }
+                records += replaySegment(sequence, employees);
+                segmentSequence = sequence;
+                recovered = true;
+            }
+            segmentSequence = Math.max(segmentSequence + 1, firstSegment);
+            if (!recovered) {
+                return Optional.empty();
+            }
+            log.info(
+                    "Recovered {} employees from {} ({} log records) in {} ms",
+                    employees.size(),
+                    directory,
+                    records,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return Optional.of(new ArrayList<>(employees.values()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to recover employees from " + directory, e);
+        }
+    }
+
+    @Override
+    public void attach(List<MockEmployee> mockEmployees) {
+        synchronized (this) {
+            this.mockEmployees = mockEmployees;
+            try {
+                segment = openSegment(segmentSequence);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to open log segment in " + directory, e);
+            }
+        }
+        if (!recovered) {
+            compact();
+        }
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            long intervalMillis = fsyncInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::sync, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        long snapshotMillis = snapshotInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::compactIfNeeded, snapshotMillis, snapshotMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordCreate(MockEmployee mockEmployee) {
+        append(CREATE, mockEmployee);
+    }
+
+    @Override
+    public void recordDelete(MockEmployee mockEmployee) {
+        append(DELETE, mockEmployee);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Timed out waiting for the employee journal to finish compacting");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            if (segment != null) {
+                try {
+                    segment.force(false);
+                    segment.close();
+                } catch (IOException e) {
+                    log.warn("Unable to close log segment {}: {}", segmentSequence, e.getMessage());
+                }
+                segment = null;
+            }
+        }
+    }
+
+    private synchronized void append(byte type, MockEmployee mockEmployee) {
+        try {
+            recordBuffer.reset();
+            recordOut.writeByte(type);
+            if (type == CREATE) {
+                EmployeeRecordCodec.writeEmployee(recordOut, mockEmployee);
+            } else {
+                EmployeeRecordCodec.writeId(recordOut, mockEmployee.getId());
+            }
+            byte[] record = recordBuffer.toByteArray();
+            recordCrc.reset();
+            recordCrc.update(record);
+            ByteBuffer header = ByteBuffer.allocate(2 * Integer.BYTES)
+                    .putInt(record.length)
+                    .putInt((int) recordCrc.getValue())
+                    .flip();
+            ByteBuffer payload = ByteBuffer.wrap(record);
+            while (header.hasRemaining() || payload.hasRemaining()) {
+                segment.write(new ByteBuffer[] {header, payload});
+            }
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                segment.force(false);
+            } else {
+                unsynced = true;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to append to log segment " + segmentSequence, e);
+        }
+        if (++segmentRecords >= compactAfterRecords && compactionPending.compareAndSet(false, true)) {
+            scheduler.execute(this::compactIfNeeded);
+        }
+    }
+
+    private synchronized void sync() {
+        if (!unsynced || segment == null) {
+            return;
+        }
+        try {
+            segment.force(false);
+            unsynced = false;
+        } catch (IOException e) {
+            log.warn("Unable to sync log segment {}: {}", segmentSequence, e.getMessage());
+        }
+    }
+
+    private void compactIfNeeded() {
+        compactionPending.set(false);
+        boolean hasRecords;
+        synchronized (this) {
+            hasRecords = segmentRecords > 0;
+        }
+        if (hasRecords) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        long started = System.nanoTime();
+        List<MockEmployee> employees;
+        long firstSegment;
+        synchronized (mockEmployees) {
+            synchronized (this) {
+                employees = new ArrayList<>(mockEmployees);
+                try {
+                    firstSegment = rotate();
+                } catch (IOException e) {
+                    log.warn("Unable to rotate log segment {}: {}", segmentSequence, e.getMessage());
+                    return;
+                }
+            }
+        }
+        try {
+            writeSnapshot(employees, firstSegment);
+            for (long sequence : listSegments()) {
+                if (sequence < firstSegment) {
+                    Files.deleteIfExists(segmentPath(sequence));
+                }
+            }
+            log.info(
+                    "Compacted {} employees into a snapshot in {} ms",
+                    employees.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException e) {
+            log.warn("Unable to write employee snapshot to {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private long rotate() throws IOException {
+        FileChannel next = openSegment(segmentSequence + 1);
+        segment.force(false);
+        segment.close();
+        segment = next;
+        segmentSequence++;
+        segmentRecords = 0;
+        unsynced = false;
+        return segmentSequence;
+    }
+
+    private FileChannel openSegment(long sequence) throws IOException {
+        return FileChannel.open(
+                segmentPath(sequence), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void writeSnapshot(List<MockEmployee> employees, long firstSegment) throws IOException {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        Path temp = Files.createTempFile(directory, SNAPSHOT_FILE, ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                CRC32 crc = new CRC32();
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                        new CheckedOutputStream(Channels.newOutputStream(channel), crc), IO_BUFFER_BYTES));
+                /* The checksum covers what has been flushed through to the channel, so flush before reading it. */
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeShort(SNAPSHOT_VERSION);
+                out.writeLong(firstSegment);
+                out.writeInt(employees.size());
+                for (MockEmployee mockEmployee : employees) {
+                    EmployeeRecordCodec.writeEmployee(out, mockEmployee);
+                }
+                out.flush();
+                out.writeInt((int) crc.getValue());
+                out.flush();
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /*
+     * Loads the snapshot into employees and returns the first log segment it does not cover, or -1 when there is no
+     * usable snapshot.
+     */
+    private long readSnapshot(Map<UUID, MockEmployee> employees) throws IOException {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(snapshot);
+        } catch (NoSuchFileException e) {
+            return -1;
+        }
+        int bodyLength = bytes.length - Integer.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, Math.max(bodyLength, 0));
+        if (bodyLength < 0 || (int) crc.getValue() != ByteBuffer.wrap(bytes, bodyLength, Integer.BYTES).getInt()) {
+            log.warn("Ignoring employee snapshot {} with a checksum mismatch", snapshot);
+            return -1;
+        }
+        try {
+            ByteBuffer in = ByteBuffer.wrap(bytes, 0, bodyLength);
+            if (in.getInt() != SNAPSHOT_MAGIC || in.getShort() != SNAPSHOT_VERSION) {
+                log.warn("Ignoring employee snapshot {} with an unknown format", snapshot);
+                return -1;
+            }
+            long firstSegment = in.getLong();
+            int count = in.getInt();
+            for (int i = 0; i < count; i++) {
+                MockEmployee mockEmployee = EmployeeRecordCodec.readEmployee(in);
+                employees.put(mockEmployee.getId(), mockEmployee);
+            }
+            return firstSegment;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            log.warn("Ignoring truncated employee snapshot {}", snapshot);
+            employees.clear();
+            return -1;
+        }
+    }
+
+    private long replaySegment(long sequence, Map<UUID, MockEmployee> employees) throws IOException {
+        Path path = segmentPath(sequence);
+        long records = 0;
+        long validBytes = 0;
+        CRC32 crc = new CRC32();
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(Files.newInputStream(path), IO_BUFFER_BYTES))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                byte[] payload;
+                try {
+                    int expected = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD_BYTES) {
+                        break;
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                    crc.reset();
+                    crc.update(payload);
+                    if ((int) crc.getValue() != expected) {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+                apply(payload, employees);
+                validBytes += 2L * Integer.BYTES + length;
+                records++;
+            }
+        }
+        if (validBytes < Files.size(path)) {
+            log.warn("Truncating torn tail of log segment {} at {} bytes", path, validBytes);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validBytes);
+            }
+        }
+        return records;
+    }
+
+    private static void apply(byte[] payload, Map<UUID, MockEmployee> employees) {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        byte type = in.get();
+        if (type == CREATE) {
+            MockEmployee mockEmployee = EmployeeRecordCodec.readEmployee(in);
+            employees.put(mockEmployee.getId(), mockEmployee);
+        } else if (type == DELETE) {
+            employees.remove(EmployeeRecordCodec.readId(in));
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))
+                    .filter(sequence -> !sequence.isEmpty() && sequence.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%016d", sequence) + SEGMENT_SUFFIX);
+    }
+}
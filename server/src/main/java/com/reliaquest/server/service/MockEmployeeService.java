@@ -4,6 +4,9 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeeJournal;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -21,6 +24,7 @@ import org.springframework.stereotype.Service;
 public class MockEmployeeService {
 
     private final Faker faker;
+    private final EmployeeJournal employeeJournal;
 
     @Getter
     private final List<MockEmployee> mockEmployees;
@@ -32,12 +36,23 @@ public class MockEmployeeService {
                 .findFirst();
     }
 
+    /* Single pass over the list whatever the number of ids, unknown ids are left out. */
+    public List<MockEmployee> findAllById(@NonNull Collection<UUID> uuids) {
+        final var wanted = new HashSet<>(uuids);
+        return mockEmployees.stream()
+                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId()) && wanted.contains(mockEmployee.getId()))
+                .toList();
+    }
+
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
         final var mockEmployee = MockEmployee.from(
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        synchronized (mockEmployees) {
+            mockEmployees.add(mockEmployee);
+            employeeJournal.recordCreate(mockEmployee);
+        }
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
@@ -48,7 +63,12 @@ public class MockEmployeeService {
                         && employee.getName().equalsIgnoreCase(input.getName()))
                 .findFirst();
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
+            synchronized (mockEmployees) {
+                if (!mockEmployees.remove(mockEmployee.get())) {
+                    return false;
+                }
+                employeeJournal.recordDelete(mockEmployee.get());
+            }
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
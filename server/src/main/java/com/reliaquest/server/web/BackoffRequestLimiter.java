@@ -0,0 +1,44 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+
+/*
+ * The original mock server model: a client may make limit requests, after which it is refused until backoff has passed
+ * since its last admitted request.
+ */
+public class BackoffRequestLimiter extends KeyedRequestLimiter<BackoffRequestLimiter.Usage> {
+
+    private final int limit;
+    private final long backoffNanos;
+
+    public BackoffRequestLimiter(int limit, Duration backoff) {
+        this.limit = limit;
+        this.backoffNanos = backoff.toNanos();
+    }
+
+    @Override
+    protected Usage initial(long nowNanos) {
+        return new Usage(0, nowNanos);
+    }
+
+    @Override
+    protected Usage acquire(Usage current, long nowNanos) {
+        if (current.count() < limit) {
+            return new Usage(current.count() + 1, nowNanos);
+        }
+        return nowNanos - current.lastAdmitted() >= backoffNanos ? new Usage(1, nowNanos) : null;
+    }
+
+    @Override
+    protected long retryAfter(Usage current, long nowNanos) {
+        return current.lastAdmitted() + backoffNanos - nowNanos;
+    }
+
+    /* A client quiet for a backoff starts over, as one that used up its requests would */
+    @Override
+    protected boolean idle(Usage current, long nowNanos) {
+        return current.count() == 0 || nowNanos - current.lastAdmitted() >= backoffNanos;
+    }
+
+    record Usage(int count, long lastAdmitted) {}
+}
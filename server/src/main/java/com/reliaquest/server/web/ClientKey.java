@@ -0,0 +1,10 @@
+package com.reliaquest.server.web;
+
+public enum ClientKey {
+    /* All clients share a single limit, as the original mock server did. */
+    GLOBAL,
+    /* Clients are told apart by their remote address. */
+    REMOTE_ADDRESS,
+    /* Clients are told apart by a request header, falling back to the remote address when it is missing. */
+    HEADER
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.server.web;
+
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
+
+/*
+ * Response compression is done by ResponseCompressionFilter rather than by Tomcat (server.compression), so that each
+ * endpoint can have its own minimum response size (mock.compression.endpoints, keyed by path pattern).
+ */
+@Slf4j
+@Configuration
+public class CompressionConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<ResponseCompressionFilter> responseCompressionFilter(Environment environment) {
+        final var binder = Binder.get(environment);
+        final var enabled = binder.bind("mock.compression.enabled", Boolean.class).orElse(true);
+        final var minResponseSize = binder.bind("mock.compression.min-response-size", DataSize.class)
+                .orElse(DataSize.ofKilobytes(2));
+        final var endpoints = binder.bind(
+                        "mock.compression.endpoints", Bindable.mapOf(String.class, DataSize.class))
+                .orElse(Map.of());
+        log.info("Response compression from {} bytes, per endpoint {}", minResponseSize.toBytes(), endpoints);
+
+        final var registration =
+                new FilterRegistrationBean<>(new ResponseCompressionFilter(minResponseSize, endpoints));
+        registration.setEnabled(enabled);
+        /* After TraceIdFilter, before anything that writes the body */
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
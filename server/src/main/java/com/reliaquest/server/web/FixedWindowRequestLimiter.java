@@ -0,0 +1,41 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+
+/* At most limit requests per client in consecutive, non-overlapping windows. */
+public class FixedWindowRequestLimiter extends KeyedRequestLimiter<FixedWindowRequestLimiter.Window> {
+
+    private final int limit;
+    private final long windowNanos;
+
+    public FixedWindowRequestLimiter(int limit, Duration window) {
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    protected Window initial(long nowNanos) {
+        return new Window(nowNanos, 0);
+    }
+
+    @Override
+    protected Window acquire(Window current, long nowNanos) {
+        final var elapsed = nowNanos - current.start();
+        if (elapsed >= windowNanos) {
+            return new Window(current.start() + elapsed / windowNanos * windowNanos, 1);
+        }
+        return current.count() < limit ? new Window(current.start(), current.count() + 1) : null;
+    }
+
+    @Override
+    protected long retryAfter(Window current, long nowNanos) {
+        return current.start() + windowNanos - nowNanos;
+    }
+
+    @Override
+    protected boolean idle(Window current, long nowNanos) {
+        return current.count() == 0 || nowNanos - current.start() >= windowNanos;
+    }
+
+    record Window(long start, int count) {}
+}
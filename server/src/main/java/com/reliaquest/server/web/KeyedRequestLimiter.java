@@ -0,0 +1,72 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Base for limiters whose per-client state is an immutable value swapped in with compare-and-set, so concurrent
+ * requests can never both take the last permit the way a separate check and update can.
+ *
+ * States that have gone back to what a new client would start with are evicted by a sweep that runs once per as many
+ * admission checks as there are clients, so keys seen once do not accumulate. An evicted state is first swapped for
+ * null, which sends requests still holding it back to the map rather than letting them count in a detached state.
+ */
+abstract class KeyedRequestLimiter<S> implements RequestLimiter {
+
+    private static final int MIN_SWEEP_INTERVAL = 1_024;
+
+    private final ConcurrentHashMap<String, AtomicReference<S>> states = new ConcurrentHashMap<>();
+    private final AtomicInteger checksSinceSweep = new AtomicInteger();
+
+    @Override
+    public long tryAcquire(String clientKey, long nowNanos) {
+        if (checksSinceSweep.incrementAndGet() >= Math.max(MIN_SWEEP_INTERVAL, states.size())) {
+            checksSinceSweep.set(0);
+            sweep(nowNanos);
+        }
+        var state = state(clientKey, nowNanos);
+        while (true) {
+            final var current = state.get();
+            if (current == null) {
+                states.remove(clientKey, state);
+                state = state(clientKey, nowNanos);
+                continue;
+            }
+            final var next = acquire(current, nowNanos);
+            if (next == null) {
+                return Math.max(1L, retryAfter(current, nowNanos));
+            }
+            if (state.compareAndSet(current, next)) {
+                return PERMITTED;
+            }
+        }
+    }
+
+    void sweep(long nowNanos) {
+        states.forEach((clientKey, state) -> {
+            final var current = state.get();
+            if (current == null || (idle(current, nowNanos) && state.compareAndSet(current, null))) {
+                states.remove(clientKey, state);
+            }
+        });
+    }
+
+    int size() {
+        return states.size();
+    }
+
+    private AtomicReference<S> state(String clientKey, long nowNanos) {
+        return states.computeIfAbsent(clientKey, ignored -> new AtomicReference<>(initial(nowNanos)));
+    }
+
+    protected abstract S initial(long nowNanos);
+
+    /* Returns the state after admitting one more request, or null when the request must be rejected. */
+    protected abstract S acquire(S current, long nowNanos);
+
+    protected abstract long retryAfter(S current, long nowNanos);
+
+    /* Whether the state admits the same as a new client's would from now on, so it can be dropped. */
+    protected abstract boolean idle(S current, long nowNanos);
+}
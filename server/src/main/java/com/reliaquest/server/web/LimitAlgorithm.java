@@ -0,0 +1,10 @@
+package com.reliaquest.server.web;
+
+public enum LimitAlgorithm {
+    NONE,
+    /* The original model, with its request limit and backoff drawn from mock.limit.seed. */
+    RANDOM,
+    FIXED_WINDOW,
+    SLIDING_WINDOW,
+    TOKEN_BUCKET
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Slf4j
+@Configuration
+public class RequestLimitConfiguration implements WebMvcConfigurer {
+
+    private final LimitAlgorithm algorithm;
+    private final int requests;
+    private final Duration window;
+    private final Long seed;
+    private final ClientKey clientKey;
+    private final String clientKeyHeader;
+
+    public RequestLimitConfiguration(
+            @Value("${mock.limit.algorithm:random}") LimitAlgorithm algorithm,
+            @Value("${mock.limit.requests:10}") int requests,
+            @Value("${mock.limit.window:60s}") Duration window,
+            @Value("${mock.limit.seed:#{null}}") Long seed,
+            @Value("${mock.limit.client-key:global}") ClientKey clientKey,
+            @Value("${mock.limit.client-key-header:X-Client-Id}") String clientKeyHeader) {
+        this.algorithm = algorithm;
+        this.requests = requests;
+        this.window = window;
+        this.seed = seed;
+        this.clientKey = clientKey;
+        this.clientKeyHeader = clientKeyHeader;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (algorithm == LimitAlgorithm.NONE) {
+            log.info("Request limiting is disabled");
+            return;
+        }
+        registry.addInterceptor(new RequestLimitInterceptor(requestLimiter(), clientKey, clientKeyHeader));
+    }
+
+    private RequestLimiter requestLimiter() {
+        return switch (algorithm) {
+            case FIXED_WINDOW -> logged(new FixedWindowRequestLimiter(requests, window), requests, window);
+            case SLIDING_WINDOW -> logged(new SlidingWindowRequestLimiter(requests, window), requests, window);
+            case TOKEN_BUCKET -> logged(new TokenBucketRequestLimiter(requests, window), requests, window);
+            default -> {
+                final RandomGenerator random =
+                        Objects.nonNull(seed) ? new SplittableRandom(seed) : RandomGenerator.getDefault();
+                final var limit = random.nextInt(5, 10);
+                final var backoff = Duration.ofSeconds(random.nextInt(30, 90));
+                yield logged(new BackoffRequestLimiter(limit, backoff), limit, backoff);
+            }
+        };
+    }
+
+    private RequestLimiter logged(RequestLimiter requestLimiter, int limit, Duration period) {
+        log.info(
+                "Request limiting with {}: {} requests per {} per {} client key",
+                algorithm,
+                limit,
+                period,
+                clientKey);
+        return requestLimiter;
+    }
+}
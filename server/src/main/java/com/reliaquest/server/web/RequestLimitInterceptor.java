@@ -0,0 +1,43 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@RequiredArgsConstructor
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    private static final String GLOBAL_KEY = "*";
+
+    private final RequestLimiter requestLimiter;
+    private final ClientKey clientKey;
+    private final String clientKeyHeader;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var retryAfterNanos = requestLimiter.tryAcquire(resolveClientKey(request), System.nanoTime());
+        if (retryAfterNanos == RequestLimiter.PERMITTED) {
+            return true;
+        }
+        final var retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return false;
+    }
+
+    private String resolveClientKey(HttpServletRequest request) {
+        return switch (clientKey) {
+            case GLOBAL -> GLOBAL_KEY;
+            case REMOTE_ADDRESS -> request.getRemoteAddr();
+            case HEADER -> {
+                final var value = request.getHeader(clientKeyHeader);
+                yield Objects.nonNull(value) && !value.isBlank() ? value : request.getRemoteAddr();
+            }
+        };
+    }
+}
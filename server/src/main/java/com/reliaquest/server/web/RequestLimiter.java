@@ -0,0 +1,13 @@
+package com.reliaquest.server.web;
+
+/*
+ * Admission check for incoming requests. Implementations keep their accounting per client key and must be safe to call
+ * concurrently without locking.
+ */
+public interface RequestLimiter {
+
+    long PERMITTED = 0L;
+
+    /* Returns PERMITTED when the request may proceed, otherwise the nanoseconds until the client should retry. */
+    long tryAcquire(String clientKey, long nowNanos);
+}
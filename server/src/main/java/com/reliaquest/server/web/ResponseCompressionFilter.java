@@ -0,0 +1,294 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/*
+ * Gzip compression of responses with a minimum response size per endpoint (path pattern, the most specific matching
+ * one applies), and a default minimum for all other paths; a negative minimum never compresses. Output is held back
+ * until it reaches the minimum, then it is compressed as it is written, so large rosters are streamed rather than
+ * buffered; smaller responses go out as they are, with their exact Content-Length.
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private static final int GZIP_BUFFER_SIZE = 8_192;
+
+    private final long defaultMinResponseSize;
+    private final List<Map.Entry<PathPattern, Long>> endpoints;
+
+    public ResponseCompressionFilter(DataSize defaultMinResponseSize, Map<String, DataSize> endpoints) {
+        this.defaultMinResponseSize = defaultMinResponseSize.toBytes();
+        this.endpoints = endpoints.entrySet().stream()
+                .map(entry -> Map.entry(
+                        PathPatternParser.defaultInstance.parse(entry.getKey()),
+                        entry.getValue().toBytes()))
+                .sorted(Map.Entry.comparingByKey(PathPattern.SPECIFICITY_COMPARATOR))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final var minResponseSize = minResponseSize(request.getRequestURI());
+        if (minResponseSize < 0 || "HEAD".equals(request.getMethod()) || !acceptsGzip(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final var compressing = new CompressingResponse(response, minResponseSize);
+        filterChain.doFilter(request, compressing);
+        compressing.finish();
+    }
+
+    long minResponseSize(String path) {
+        final var container = PathContainer.parsePath(path);
+        for (final var endpoint : endpoints) {
+            if (endpoint.getKey().matches(container)) {
+                return endpoint.getValue();
+            }
+        }
+        return defaultMinResponseSize;
+    }
+
+    /* gzip (or *) with a non-zero quality, an explicit gzip entry taking precedence over * */
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        var gzipQuality = -1.0;
+        var anyQuality = -1.0;
+        final var acceptEncoding = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (acceptEncoding.hasMoreElements()) {
+            for (final var coding : acceptEncoding.nextElement().split(",")) {
+                final var parameters = coding.split(";");
+                final var name = parameters[0].trim().toLowerCase(Locale.ROOT);
+                if ("gzip".equals(name)) {
+                    gzipQuality = Math.max(gzipQuality, quality(parameters));
+                } else if ("*".equals(name)) {
+                    anyQuality = Math.max(anyQuality, quality(parameters));
+                }
+            }
+        }
+        return (gzipQuality >= 0 ? gzipQuality : anyQuality) > 0;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            final var parameter = parameters[i].trim();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final long minResponseSize;
+        private ThresholdGzipOutputStream outputStream;
+        private PrintWriter writer;
+
+        CompressingResponse(HttpServletResponse response, long minResponseSize) {
+            super(response);
+            this.minResponseSize = minResponseSize;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (Objects.nonNull(writer)) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+            return stream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (Objects.isNull(writer)) {
+                if (Objects.nonNull(outputStream)) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+                writer = new PrintWriter(
+                        new OutputStreamWriter(stream(), Charset.forName(getCharacterEncoding())), false);
+            }
+            return writer;
+        }
+
+        /* The length of the uncompressed body is not the length sent, it is set on finishing when it is */
+        @Override
+        public void setContentLength(int length) {}
+
+        @Override
+        public void setContentLengthLong(long length) {}
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (Objects.nonNull(writer)) {
+                writer.flush();
+            }
+            if (Objects.nonNull(outputStream)) {
+                outputStream.flush();
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            outputStream = null;
+            writer = null;
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            if (Objects.nonNull(outputStream)) {
+                outputStream.reset();
+            }
+        }
+
+        void finish() throws IOException {
+            if (Objects.nonNull(writer)) {
+                writer.flush();
+            }
+            if (Objects.nonNull(outputStream)) {
+                outputStream.finish();
+            }
+        }
+
+        private ThresholdGzipOutputStream stream() throws IOException {
+            if (Objects.isNull(outputStream)) {
+                outputStream = new ThresholdGzipOutputStream();
+            }
+            return outputStream;
+        }
+
+        private HttpServletResponse target() {
+            return (HttpServletResponse) getResponse();
+        }
+
+        private class ThresholdGzipOutputStream extends ServletOutputStream {
+
+            private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+            private GZIPOutputStream gzip;
+            private ServletOutputStream passThrough;
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                if (Objects.nonNull(gzip)) {
+                    gzip.write(bytes, offset, length);
+                } else if (Objects.nonNull(passThrough)) {
+                    passThrough.write(bytes, offset, length);
+                } else {
+                    pending.write(bytes, offset, length);
+                    if (pending.size() >= minResponseSize) {
+                        start();
+                    }
+                }
+            }
+
+            /* Held back output is kept until the minimum is reached, flushing would commit an unknown encoding */
+            @Override
+            public void flush() throws IOException {
+                if (Objects.nonNull(gzip)) {
+                    gzip.flush();
+                } else if (Objects.nonNull(passThrough)) {
+                    passThrough.flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                finish();
+            }
+
+            void reset() {
+                pending = new ByteArrayOutputStream();
+            }
+
+            void finish() throws IOException {
+                if (Objects.nonNull(pending)) {
+                    target().setContentLength(pending.size());
+                    passThrough = target().getOutputStream();
+                    pending.writeTo(passThrough);
+                    pending = null;
+                }
+                if (Objects.nonNull(gzip)) {
+                    gzip.finish();
+                    gzip = null;
+                }
+            }
+
+            private void start() throws IOException {
+                final var target = target();
+                if (target.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+                    passThrough = target.getOutputStream();
+                    pending.writeTo(passThrough);
+                } else {
+                    target.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    target.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                    gzip = new GZIPOutputStream(target.getOutputStream(), GZIP_BUFFER_SIZE, true);
+                    pending.writeTo(gzip);
+                }
+                pending = null;
+            }
+
+            /* Compressed or not, the bytes end up in the wrapped stream, which decides when more can be written */
+            @Override
+            public boolean isReady() {
+                try {
+                    return target().getOutputStream().isReady();
+                } catch (IOException e) {
+                    return false;
+                }
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                try {
+                    target().getOutputStream().setWriteListener(writeListener);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Unable to register the write listener", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+
+/*
+ * Sliding window counter: the count of the previous window is weighted by how much of it still overlaps the sliding
+ * window, which smooths out the bursts a fixed window allows at its boundaries.
+ */
+public class SlidingWindowRequestLimiter extends KeyedRequestLimiter<SlidingWindowRequestLimiter.Window> {
+
+    private final int limit;
+    private final long windowNanos;
+
+    public SlidingWindowRequestLimiter(int limit, Duration window) {
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    protected Window initial(long nowNanos) {
+        return new Window(nowNanos, 0, 0);
+    }
+
+    @Override
+    protected Window acquire(Window current, long nowNanos) {
+        final var window = roll(current, nowNanos);
+        if (estimate(window, nowNanos) + 1 > limit) {
+            return null;
+        }
+        return new Window(window.start(), window.count() + 1, window.previousCount());
+    }
+
+    @Override
+    protected long retryAfter(Window current, long nowNanos) {
+        final var window = roll(current, nowNanos);
+        final var untilNextWindow = window.start() + windowNanos - nowNanos;
+        if (window.count() + 1 > limit || window.previousCount() == 0) {
+            return untilNextWindow;
+        }
+        /* Solve previousCount * (1 - t / window) + count + 1 <= limit for the elapsed time t. */
+        final var requiredWeight = (double) (limit - 1 - window.count()) / window.previousCount();
+        final var requiredElapsed = (long) Math.ceil((1 - requiredWeight) * windowNanos);
+        return Math.min(untilNextWindow, requiredElapsed - (nowNanos - window.start()));
+    }
+
+    /* Nothing counted in the current window nor in the one before it that still overlaps */
+    @Override
+    protected boolean idle(Window current, long nowNanos) {
+        final var window = roll(current, nowNanos);
+        return window.count() == 0 && window.previousCount() == 0;
+    }
+
+    private Window roll(Window window, long nowNanos) {
+        final var elapsedWindows = (nowNanos - window.start()) / windowNanos;
+        if (elapsedWindows == 0) {
+            return window;
+        }
+        final var start = window.start() + elapsedWindows * windowNanos;
+        return new Window(start, 0, elapsedWindows == 1 ? window.count() : 0);
+    }
+
+    private double estimate(Window window, long nowNanos) {
+        final var previousWeight = 1 - (double) (nowNanos - window.start()) / windowNanos;
+        return window.previousCount() * previousWeight + window.count();
+    }
+
+    record Window(long start, int count, int previousCount) {}
+}
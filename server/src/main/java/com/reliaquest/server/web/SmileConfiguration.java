@@ -0,0 +1,22 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/*
+ * Smile (binary JSON) for clients that ask for application/x-jackson-smile, JSON for all others. Field names are the
+ * same as in JSON, so the naming of MockEmployee applies; they are written once per response and referenced after
+ * that, and numbers and UUID strings go out without text encoding. Built from Boot's Jackson builder so that
+ * spring.jackson.* applies to both formats.
+ */
+@Configuration
+public class SmileConfiguration {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
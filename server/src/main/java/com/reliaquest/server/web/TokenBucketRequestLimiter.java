@@ -0,0 +1,41 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+
+/*
+ * Token bucket of capacity limit, refilled at limit tokens per window. Implemented as the generic cell rate algorithm:
+ * the only state is the theoretical arrival time of the next request, which a request pushes one emission interval
+ * further; it is admitted as long as that stays within the bucket's capacity ahead of now.
+ */
+public class TokenBucketRequestLimiter extends KeyedRequestLimiter<Long> {
+
+    private final long emissionIntervalNanos;
+    private final long capacityNanos;
+
+    public TokenBucketRequestLimiter(int limit, Duration window) {
+        this.emissionIntervalNanos = Math.max(1L, window.toNanos() / limit);
+        this.capacityNanos = emissionIntervalNanos * limit;
+    }
+
+    @Override
+    protected Long initial(long nowNanos) {
+        return nowNanos;
+    }
+
+    @Override
+    protected Long acquire(Long theoreticalArrival, long nowNanos) {
+        final var next = Math.max(theoreticalArrival, nowNanos) + emissionIntervalNanos;
+        return next - nowNanos <= capacityNanos ? next : null;
+    }
+
+    @Override
+    protected long retryAfter(Long theoreticalArrival, long nowNanos) {
+        return Math.max(theoreticalArrival, nowNanos) + emissionIntervalNanos - nowNanos - capacityNanos;
+    }
+
+    /* The bucket has refilled completely */
+    @Override
+    protected boolean idle(Long theoreticalArrival, long nowNanos) {
+        return theoreticalArrival - nowNanos <= 0;
+    }
+}
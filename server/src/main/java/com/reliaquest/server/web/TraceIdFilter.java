@@ -0,0 +1,45 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Puts the X-Trace-Id sent by the api into the MDC (and echoes it back), so mock server log lines can be matched with
+ * the api request they served.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TraceIdFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "X-Trace-Id";
+
+    private static final Pattern TRACE_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+    private static final String MDC_KEY = "traceId";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final var traceId = request.getHeader(HEADER);
+        if (Objects.isNull(traceId) || !TRACE_ID.matcher(traceId).matches()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(MDC_KEY, traceId);
+        response.setHeader(HEADER, traceId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    /* Several chunks and more than one pool slice, so the parallel paths are exercised */
+    private static final int COUNT = 50_000;
+    private static final long SEED = 42L;
+
+    @Test
+    void generate_shouldProduceSameRosterForSeedRegardlessOfParallelism() throws Exception {
+        List<MockEmployee> sequential = generate(SEED, 1);
+        List<MockEmployee> parallel = generate(SEED, 8);
+
+        assertEquals(COUNT, sequential.size());
+        assertEquals(sequential, parallel);
+        assertEquals(sequential, generate(SEED, 3));
+    }
+
+    @Test
+    void generate_shouldProduceDifferentRostersForDifferentSeeds() throws Exception {
+        assertNotEquals(generate(SEED, 4), generate(SEED + 1, 4));
+    }
+
+    private static List<MockEmployee> generate(long seed, int parallelism) throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            /* Parallel streams started from a pool's task run on that pool */
+            return pool.submit(() -> new MockEmployeeGenerator(seed, Locale.US).generate(COUNT))
+                    .get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeRecordCodecTest {
+
+    @Test
+    void readEmployee_shouldDecodeWhatWriteEmployeeEncoded() throws IOException {
+        MockEmployee first = WriteAheadLogJournalTest.employee("Ada Lovelace");
+        MockEmployee second = MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Zoë Ångström 李")
+                .salary(Integer.MAX_VALUE)
+                .age(0)
+                .title("")
+                .email("zoe@company.com")
+                .build();
+
+        ByteBuffer in = ByteBuffer.wrap(encode(first, second));
+
+        assertEquals(first, EmployeeRecordCodec.readEmployee(in));
+        assertEquals(second, EmployeeRecordCodec.readEmployee(in));
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void readEmployee_shouldKeepNullFields() throws IOException {
+        MockEmployee sparse = MockEmployee.builder().id(UUID.randomUUID()).build();
+
+        ByteBuffer in = ByteBuffer.wrap(encode(sparse));
+
+        assertEquals(sparse, EmployeeRecordCodec.readEmployee(in));
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void readEmployee_shouldDecodeFromBufferWithArrayOffset() throws IOException {
+        MockEmployee employee = WriteAheadLogJournalTest.employee("Grace Hopper");
+        byte[] encoded = encode(employee);
+        byte[] framed = new byte[encoded.length + 5];
+        System.arraycopy(encoded, 0, framed, 5, encoded.length);
+
+        ByteBuffer in = ByteBuffer.wrap(framed, 5, encoded.length).slice();
+
+        assertEquals(employee, EmployeeRecordCodec.readEmployee(in));
+    }
+
+    @Test
+    void readId_shouldDecodeWhatWriteIdEncoded() throws IOException {
+        UUID id = UUID.randomUUID();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EmployeeRecordCodec.writeId(new DataOutputStream(bytes), id);
+
+        assertEquals(id, EmployeeRecordCodec.readId(ByteBuffer.wrap(bytes.toByteArray())));
+    }
+
+    private static byte[] encode(MockEmployee... employees) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (MockEmployee employee : employees) {
+            EmployeeRecordCodec.writeEmployee(out, employee);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,198 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_shouldReplayAppendedRecords() {
+        List<MockEmployee> employees = new ArrayList<>(List.of(employee("Ada Lovelace")));
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            assertTrue(journal.recover().isEmpty());
+            journal.attach(employees);
+            create(journal, employees, employee("Grace Hopper"));
+            create(journal, employees, employee("Alan Turing"));
+        }
+
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            assertEquals(employees, journal.recover().orElseThrow());
+        }
+    }
+
+    @Test
+    void recover_shouldReplayDeleteAfterCreate() {
+        MockEmployee seeded = employee("Ada Lovelace");
+        MockEmployee created = employee("Grace Hopper");
+        MockEmployee kept = employee("Alan Turing");
+        List<MockEmployee> employees = new ArrayList<>(List.of(seeded));
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            journal.recover();
+            journal.attach(employees);
+            create(journal, employees, created);
+            delete(journal, employees, created);
+            delete(journal, employees, seeded);
+            create(journal, employees, kept);
+        }
+
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            assertEquals(List.of(kept), journal.recover().orElseThrow());
+        }
+    }
+
+    @Test
+    void recover_shouldDropTornTailRecord() throws IOException {
+        List<MockEmployee> employees = new ArrayList<>();
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            journal.recover();
+            journal.attach(employees);
+            create(journal, employees, employee("Ada Lovelace"));
+        }
+        Path segment = lastSegment();
+        long validBytes = Files.size(segment);
+        /* A record header announcing more payload than was written before the crash */
+        Files.write(
+                segment,
+                ByteBuffer.allocate(11).putInt(64).putInt(0).put(new byte[3]).array(),
+                StandardOpenOption.APPEND);
+
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            List<MockEmployee> recovered = journal.recover().orElseThrow();
+            assertEquals(employees, recovered);
+            assertEquals(validBytes, Files.size(segment));
+            journal.attach(recovered);
+            create(journal, recovered, employee("Grace Hopper"));
+            employees = recovered;
+        }
+
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            assertEquals(employees, journal.recover().orElseThrow());
+        }
+    }
+
+    @Test
+    void recover_shouldDropRecordWithChecksumMismatch() throws IOException {
+        List<MockEmployee> employees = new ArrayList<>();
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            journal.recover();
+            journal.attach(employees);
+            create(journal, employees, employee("Ada Lovelace"));
+            create(journal, employees, employee("Grace Hopper"));
+        }
+        Path segment = lastSegment();
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 1] ^= 0x5A;
+        Files.write(segment, bytes);
+
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            assertEquals(employees.subList(0, 1), journal.recover().orElseThrow());
+        }
+    }
+
+    @Test
+    void recover_shouldReplaySnapshotAndNewerSegmentsAfterCrashBetweenRotateAndSnapshot() throws IOException {
+        List<MockEmployee> employees = new ArrayList<>(List.of(employee("Ada Lovelace")));
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            journal.recover();
+            journal.attach(employees);
+            create(journal, employees, employee("Grace Hopper"));
+        }
+        /* Starts a newer segment without writing a snapshot, as a compaction does up to its crash */
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            List<MockEmployee> recovered = journal.recover().orElseThrow();
+            journal.attach(recovered);
+            create(journal, recovered, employee("Alan Turing"));
+            employees = recovered;
+        }
+        assertEquals(2, segments().size());
+
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            assertEquals(employees, journal.recover().orElseThrow());
+        }
+    }
+
+    @Test
+    void recover_shouldRecoverFromSnapshotAfterCompaction() throws Exception {
+        List<MockEmployee> employees = new ArrayList<>();
+        try (WriteAheadLogJournal journal = journal(2)) {
+            journal.recover();
+            journal.attach(employees);
+            Path compacted = lastSegment();
+            create(journal, employees, employee("Ada Lovelace"));
+            create(journal, employees, employee("Grace Hopper"));
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (Files.exists(compacted) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertFalse(Files.exists(compacted));
+            create(journal, employees, employee("Alan Turing"));
+        }
+
+        assertTrue(Files.exists(directory.resolve(WriteAheadLogJournal.SNAPSHOT_FILE)));
+        assertEquals(1, segments().size());
+        try (WriteAheadLogJournal journal = journal(1_000)) {
+            assertEquals(employees, journal.recover().orElseThrow());
+        }
+    }
+
+    private WriteAheadLogJournal journal(int compactAfterRecords) {
+        return new WriteAheadLogJournal(
+                directory, FsyncPolicy.ALWAYS, Duration.ofHours(1), Duration.ofHours(1), compactAfterRecords);
+    }
+
+    private static void create(WriteAheadLogJournal journal, List<MockEmployee> employees, MockEmployee employee) {
+        synchronized (employees) {
+            employees.add(employee);
+            journal.recordCreate(employee);
+        }
+    }
+
+    private static void delete(WriteAheadLogJournal journal, List<MockEmployee> employees, MockEmployee employee) {
+        synchronized (employees) {
+            employees.remove(employee);
+            journal.recordDelete(employee);
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path lastSegment() throws IOException {
+        List<Path> segments = segments();
+        return segments.get(segments.size() - 1);
+    }
+
+    static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(120_000)
+                .age(36)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class KeyedRequestLimiterTest {
+
+    private static final int LIMIT = 25;
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 20;
+    private static final long NOW = 1_000_000_000L;
+
+    private final ExecutorService clients = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+    }
+
+    @Test
+    void tryAcquire_shouldAdmitExactlyLimitConcurrentlyWithFixedWindow() throws Exception {
+        assertEquals(LIMIT, admittedConcurrently(new FixedWindowRequestLimiter(LIMIT, WINDOW)));
+    }
+
+    @Test
+    void tryAcquire_shouldAdmitExactlyLimitConcurrentlyWithSlidingWindow() throws Exception {
+        assertEquals(LIMIT, admittedConcurrently(new SlidingWindowRequestLimiter(LIMIT, WINDOW)));
+    }
+
+    @Test
+    void tryAcquire_shouldAdmitExactlyLimitConcurrentlyWithTokenBucket() throws Exception {
+        assertEquals(LIMIT, admittedConcurrently(new TokenBucketRequestLimiter(LIMIT, WINDOW)));
+    }
+
+    @Test
+    void tryAcquire_shouldAdmitExactlyLimitConcurrentlyWithBackoff() throws Exception {
+        assertEquals(LIMIT, admittedConcurrently(new BackoffRequestLimiter(LIMIT, WINDOW)));
+    }
+
+    @Test
+    void sweep_shouldEvictOnlyIdleClients() {
+        FixedWindowRequestLimiter limiter = new FixedWindowRequestLimiter(LIMIT, WINDOW);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("client-" + i, NOW);
+        }
+        long later = NOW + WINDOW.toNanos();
+        limiter.tryAcquire("active", later);
+
+        limiter.sweep(later + 1);
+
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void tryAcquire_shouldSweepAsClientKeysAccumulate() {
+        TokenBucketRequestLimiter limiter = new TokenBucketRequestLimiter(LIMIT, WINDOW);
+        long now = NOW;
+        for (int i = 0; i < 10_000; i++) {
+            /* One request per client, each an hour after the previous one, so every earlier bucket is full again */
+            now += TimeUnit.HOURS.toNanos(1);
+            limiter.tryAcquire("client-" + i, now);
+        }
+
+        assertTrue(limiter.size() <= 1_024, "clients tracked: " + limiter.size());
+    }
+
+    @Test
+    void tryAcquire_shouldKeepCountingAfterEvictionRace() throws Exception {
+        FixedWindowRequestLimiter limiter = new FixedWindowRequestLimiter(LIMIT, WINDOW);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?> sweeper = clients.submit(() -> {
+            start.await();
+            for (int i = 0; i < 1_000; i++) {
+                limiter.sweep(NOW);
+            }
+            return null;
+        });
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int thread = 0; thread < THREADS - 1; thread++) {
+            results.add(clients.submit(() -> {
+                start.await();
+                int admitted = 0;
+                for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                    if (limiter.tryAcquire("client", NOW) == RequestLimiter.PERMITTED) {
+                        admitted++;
+                    }
+                }
+                return admitted;
+            }));
+        }
+
+        start.countDown();
+        sweeper.get(10, TimeUnit.SECONDS);
+        int admitted = 0;
+        for (Future<Integer> result : results) {
+            admitted += result.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(LIMIT, admitted);
+    }
+
+    private int admittedConcurrently(RequestLimiter limiter) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            results.add(clients.submit(() -> {
+                start.await();
+                int admitted = 0;
+                for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                    if (limiter.tryAcquire("client", NOW) == RequestLimiter.PERMITTED) {
+                        admitted++;
+                    }
+                }
+                return admitted;
+            }));
+        }
+
+        start.countDown();
+        int admitted = 0;
+        for (Future<Integer> result : results) {
+            admitted += result.get(10, TimeUnit.SECONDS);
+        }
+        return admitted;
+    }
+}
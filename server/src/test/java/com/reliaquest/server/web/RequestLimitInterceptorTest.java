@@ -0,0 +1,82 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestLimitInterceptorTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    @Test
+    void preHandle_shouldRoundRetryAfterUpToWholeSeconds() {
+        assertEquals("1", retryAfter(1L));
+        assertEquals("1", retryAfter(TimeUnit.SECONDS.toNanos(1)));
+        assertEquals("2", retryAfter(TimeUnit.SECONDS.toNanos(1) + 1));
+        assertEquals("90", retryAfter(TimeUnit.SECONDS.toNanos(90)));
+    }
+
+    @Test
+    void preHandle_shouldAnswerRemainingFixedWindowAsRetryAfter() {
+        RequestLimitInterceptor interceptor = new RequestLimitInterceptor(
+                new FixedWindowRequestLimiter(1, Duration.ofSeconds(60)), ClientKey.GLOBAL, CLIENT_HEADER);
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), rejected, null));
+        assertEquals(429, rejected.getStatus());
+        assertEquals("60", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void preHandle_shouldAnswerTokenEmissionIntervalAsRetryAfter() {
+        RequestLimitInterceptor interceptor = new RequestLimitInterceptor(
+                new TokenBucketRequestLimiter(2, Duration.ofSeconds(10)), ClientKey.GLOBAL, CLIENT_HEADER);
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null);
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), rejected, null));
+        assertEquals("5", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void preHandle_shouldLimitByHeaderFallingBackToRemoteAddress() {
+        AtomicReference<String> clientKey = new AtomicReference<>();
+        RequestLimitInterceptor interceptor = new RequestLimitInterceptor(
+                (key, nowNanos) -> {
+                    clientKey.set(key);
+                    return RequestLimiter.PERMITTED;
+                },
+                ClientKey.HEADER,
+                CLIENT_HEADER);
+        MockHttpServletRequest identified = new MockHttpServletRequest();
+        identified.addHeader(CLIENT_HEADER, "load-test-3");
+        MockHttpServletRequest anonymous = new MockHttpServletRequest();
+        anonymous.setRemoteAddr("10.0.0.7");
+
+        interceptor.preHandle(identified, new MockHttpServletResponse(), null);
+        assertEquals("load-test-3", clientKey.get());
+        interceptor.preHandle(anonymous, new MockHttpServletResponse(), null);
+        assertEquals("10.0.0.7", clientKey.get());
+    }
+
+    private static String retryAfter(long retryAfterNanos) {
+        RequestLimitInterceptor interceptor =
+                new RequestLimitInterceptor((key, nowNanos) -> retryAfterNanos, ClientKey.GLOBAL, CLIENT_HEADER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertEquals(429, response.getStatus());
+        return response.getHeader(HttpHeaders.RETRY_AFTER);
+    }
+}
@@ -0,0 +1,188 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+class ResponseCompressionFilterTest {
+
+    private static final String ROSTER = "/api/v1/employee";
+    private static final int MIN_RESPONSE_SIZE = 1_024;
+
+    private final ResponseCompressionFilter filter = new ResponseCompressionFilter(
+            DataSize.ofKilobytes(2), Map.of(ROSTER, DataSize.ofBytes(MIN_RESPONSE_SIZE)));
+
+    @Test
+    void doFilter_shouldPassSmallResponsesThroughWithExactContentLength() throws Exception {
+        byte[] body = body(MIN_RESPONSE_SIZE - 1);
+
+        MockHttpServletResponse response = filter(ROSTER, "gzip", (request, servletResponse) -> {
+            servletResponse.setContentLength(body.length + 100);
+            servletResponse.getOutputStream().write(body);
+        });
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(body.length, response.getContentLength());
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    @Test
+    void doFilter_shouldGzipResponsesFromMinimumSize() throws Exception {
+        byte[] body = body(MIN_RESPONSE_SIZE * 4);
+
+        MockHttpServletResponse response = filter(ROSTER, "deflate, gzip", (request, servletResponse) -> {
+            servletResponse.setContentLength(body.length);
+            servletResponse.getOutputStream().write(body, 0, 100);
+            servletResponse.getOutputStream().write(body, 100, body.length - 100);
+        });
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        assertNull(response.getHeader(HttpHeaders.CONTENT_LENGTH));
+        assertArrayEquals(body, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void doFilter_shouldNotGzipWhenClientRejectsIt() throws Exception {
+        byte[] body = body(MIN_RESPONSE_SIZE * 4);
+        FilterChain chain = (request, servletResponse) -> servletResponse.getOutputStream().write(body);
+
+        for (String acceptEncoding : new String[] {"gzip;q=0", "gzip; q=0.0, deflate", "*;q=1, gzip;q=0", "br"}) {
+            MockHttpServletResponse response = filter(ROSTER, acceptEncoding, chain);
+
+            assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING), acceptEncoding);
+            assertArrayEquals(body, response.getContentAsByteArray(), acceptEncoding);
+        }
+        for (String acceptEncoding : new String[] {"gzip;q=0.5", "br, *", "GZIP ; Q=1"}) {
+            MockHttpServletResponse response = filter(ROSTER, acceptEncoding, chain);
+
+            assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING), acceptEncoding);
+        }
+    }
+
+    @Test
+    void doFilter_shouldLeaveEncodedResponsesAlone() throws Exception {
+        byte[] body = body(MIN_RESPONSE_SIZE * 4);
+
+        MockHttpServletResponse response = filter(ROSTER, "gzip", (request, servletResponse) -> {
+            ((HttpServletResponse) servletResponse).setHeader(HttpHeaders.CONTENT_ENCODING, "br");
+            servletResponse.getOutputStream().write(body);
+        });
+
+        assertEquals("br", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(response.getHeader(HttpHeaders.VARY));
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    @Test
+    void doFilter_shouldDropHeldBackOutputOnResetBuffer() throws Exception {
+        MockHttpServletResponse response = filter(ROSTER, "gzip", (request, servletResponse) -> {
+            servletResponse.getOutputStream().write("partial".getBytes(StandardCharsets.UTF_8));
+            servletResponse.resetBuffer();
+            servletResponse.getOutputStream().write("error".getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertEquals("error", response.getContentAsString());
+        assertEquals(5, response.getContentLength());
+    }
+
+    @Test
+    void doFilter_shouldHandWriteListenerToWrappedStream() throws Exception {
+        AtomicReference<WriteListener> registered = new AtomicReference<>();
+        ServletOutputStream wrappedStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return false;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                registered.set(writeListener);
+            }
+
+            @Override
+            public void write(int b) {}
+        };
+        WriteListener listener = new WriteListener() {
+            @Override
+            public void onWritePossible() {}
+
+            @Override
+            public void onError(Throwable throwable) {}
+        };
+        HttpServletResponse response = new HttpServletResponseWrapper(new MockHttpServletResponse()) {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return wrappedStream;
+            }
+        };
+        AtomicReference<Boolean> ready = new AtomicReference<>();
+
+        filter.doFilter(request(ROSTER, "gzip"), response, (request, servletResponse) -> {
+            servletResponse.getOutputStream().setWriteListener(listener);
+            ready.set(servletResponse.getOutputStream().isReady());
+        });
+
+        assertSame(listener, registered.get());
+        assertFalse(ready.get());
+    }
+
+    @Test
+    void minResponseSize_shouldPreferLiteralSegmentsOverVariables() {
+        Map<String, DataSize> endpoints = new LinkedHashMap<>();
+        endpoints.put("/api/v1/employee/{id}", DataSize.ofBytes(-1));
+        endpoints.put("/api/v1/employee/batch", DataSize.ofKilobytes(2));
+        endpoints.put("/api/v1/employee", DataSize.ofKilobytes(1));
+        ResponseCompressionFilter compressionFilter = new ResponseCompressionFilter(DataSize.ofBytes(512), endpoints);
+
+        assertEquals(2_048, compressionFilter.minResponseSize("/api/v1/employee/batch"));
+        assertEquals(-1, compressionFilter.minResponseSize("/api/v1/employee/5c7b9f3e-0000-4000-8000-000000000000"));
+        assertEquals(1_024, compressionFilter.minResponseSize("/api/v1/employee"));
+        assertEquals(512, compressionFilter.minResponseSize("/manage/status"));
+    }
+
+    private MockHttpServletResponse filter(String path, String acceptEncoding, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(path, acceptEncoding), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String path, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return request;
+    }
+
+    private static byte[] body(int length) {
+        byte[] body = new byte[length];
+        Arrays.fill(body, (byte) 'a');
+        return body;
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}